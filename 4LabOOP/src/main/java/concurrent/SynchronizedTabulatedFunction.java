@@ -1,7 +1,6 @@
 package concurrent;
 
 import functions.*;
-import operations.TabulatedFunctionOperationService;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -107,33 +106,93 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction{
         }
     }
 
+    //Весь обход идёт под одной блокировкой, поэтому видит согласованное состояние таблицы
     @Override
-    public Iterator<Point> iterator(){
+    public void forEachPoint(DoubleBiConsumer action) {
         lock.lock();
-        try{
-            Point[] pointsCopy = TabulatedFunctionOperationService.asPoints(function);
+        try {
+            function.forEachPoint(action);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Снимок берётся под блокировкой, а читать его дальше можно уже без неё
+    @Override
+    public TabulatedFunction freeze() {
+        lock.lock();
+        try {
+            return function.freeze();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Копия столбцов под блокировкой: вид над массивами таблицы нельзя отдавать за её пределы
+    @Override
+    public TabulatedColumns columns() {
+        lock.lock();
+        try {
+            return function.columns().copy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Итератор идёт по снимку столбцов, поэтому не мешает другим потокам и не видит их изменений
+    @Override
+    public Iterator<Point> iterator(){
+        TabulatedColumns snapshot = columns();
 
-            return new Iterator<Point>() {
+        return new Iterator<Point>() {
 
-                private int currIndex = 0;
-                private final Point[] points = pointsCopy;
+            private int currIndex = 0;
 
-                @Override
-                public boolean hasNext() {
-                    return currIndex < points.length;
+            @Override
+            public boolean hasNext() {
+                return currIndex < snapshot.count();
+            }
+
+            @Override
+            public Point next() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("Элементов больше нет, ы");
                 }
+                Point point = new Point(snapshot.x(currIndex), snapshot.y(currIndex));
+                currIndex++;
+                return point;
+            }
+        };
+    }
+
+    //Курсор тоже идёт по снимку: иначе каждая пара x(), y() читалась бы под разными блокировками
+    //и могла бы смешать точки из разных состояний таблицы
+    @Override
+    public PointCursor cursor() {
+        TabulatedColumns snapshot = columns();
 
-                @Override
-                public Point next() {
-                    if(!hasNext()){
-                        throw new NoSuchElementException("Элементов больше нет, ы");
-                    }
-                    return points[currIndex++];
+        return new PointCursor() {
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index + 1 >= snapshot.count()) {
+                    return false;
                 }
-            };
-        }finally {
-            lock.unlock();
-        }
+                index++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return snapshot.x(index);
+            }
+
+            @Override
+            public double y() {
+                return snapshot.y(index);
+            }
+        };
     }
 
     public <T> T doSynchronously(Operation<T> operation) {
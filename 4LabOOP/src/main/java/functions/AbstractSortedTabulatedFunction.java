@@ -0,0 +1,176 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+//Общее чтение для таблиц с возрастающими x и доступом к точке по индексу за O(1): массивы,
+//нативные сегменты, отображённый файл. Наследник даёт xAt/yAt, а двоичный поиск, интерполяция,
+//границы и обход написаны здесь один раз. Размер берётся через getCount(): у снимка
+//FrozenTabulatedFunction он хранится в своём final-поле, а не в count
+abstract class AbstractSortedTabulatedFunction extends AbstractTabulatedFunction {
+    private static final double EPSILON = 1e-10;
+
+    //Точка без проверки индекса
+    protected abstract double xAt(int index);
+
+    protected abstract double yAt(int index);
+
+    //Значение на отрезке [floorIndex, floorIndex + 1], x уже внутри него; по умолчанию линейная интерполяция
+    protected double segment(double x, int floorIndex) {
+        return interpolate(x, xAt(floorIndex), xAt(floorIndex + 1), yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    //Двоичный поиск: индекс точного совпадения (с допуском EPSILON) или -(insertionPoint + 1)
+    protected int searchX(double x) {
+        int size = getCount();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - xAt(mid) >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low < size && xAt(low) - x < EPSILON) {
+            return low;
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        int low = 1;
+        int high = getCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xAt(mid) <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        int last = getCount() - 1;
+        return interpolate(x, xAt(last - 1), xAt(last), yAt(last - 1), yAt(last));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= getCount() - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = xAt(floorIndex);
+        double x2 = xAt(floorIndex + 1);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return segment(x, floorIndex);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int index = searchX(x);
+            if (index >= 0) {
+                return yAt(index);
+            }
+            return segment(x, -index - 2);
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= getCount()) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + getCount());
+        }
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= getCount()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getCount());
+        }
+        return yAt(index);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        int size = getCount();
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(yAt(i) - y) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(getCount() - 1);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < getCount();
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(xAt(i), yAt(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -39,6 +39,17 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
             throw new DifferentLengthOfArraysException("Длины ОШИБКА");
         }
     }
+    //Неубывание куска массива; NaN нарушает порядок. Отсортированные пакеты запросов
+    //вычисляются совместным проходом по таблице и запросам вместо поиска на каждую точку
+    protected static boolean isSortedRange(double[] values, int offset, int length) {
+        for (int i = offset + 1; i < offset + length; i++) {
+            if (!(values[i] >= values[i - 1])) {
+                return false;
+            }
+        }
+        return length == 0 || values[offset] == values[offset];
+    }
+
     protected static void checkSorted(double[] xValues) {
         for (int i = 1; i < xValues.length; i++) {
             if (xValues[i] <= xValues[i - 1]) {
@@ -55,13 +66,11 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
                 .append(getCount())
                 .append("\n");
 
-        for (Point point : this){
-            stringBuilder.append("[")
-                    .append(point.x)
-                    .append("; ")
-                    .append(point.y)
-                    .append("]\n");
-        }
+        forEachPoint((x, y) -> stringBuilder.append("[")
+                .append(x)
+                .append("; ")
+                .append(y)
+                .append("]\n"));
 
         return stringBuilder.toString();
     }
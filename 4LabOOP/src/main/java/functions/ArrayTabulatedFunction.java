@@ -5,14 +5,20 @@ import java.awt.*;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kernels.ArrayKernels;
 
 
 public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
     private static final long serialVersionUID = -2407695699800373971L;
+    private static final double EPSILON = 1e-10;
+    //Размер блока запросов, для которого индексы отрезков копятся перед вызовом ядра интерполяции
+    private static final int LERP_BLOCK = 1024;
 
     @JsonProperty("xVal")
     @JsonFormat(shape = JsonFormat.Shape.ARRAY)
@@ -25,6 +31,11 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     @JsonProperty("count")
     private int count;
 
+    //Массивы отданы снимку из freeze(); перед записью таблица переходит на свои копии.
+    //Флаги раздельные: замена y копирует только yVal
+    private transient boolean xShared;
+    private transient boolean yShared;
+
     @JsonCreator
     public ArrayTabulatedFunction(@JsonProperty(value = "xVal") double[] xVal, @JsonProperty(value = "yVal") double[] yVal) {
         if (xVal.length < 2) {
@@ -144,17 +155,33 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         if (index < 0 || index >= count) {
             throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
         }
+        unshareY();
         yVal[index] = value;
     }
 
     @Override
     public int indexOfX(double x) {
-        for (int i = 0; i < count; i++) {
-            if (Math.abs(xVal[i] - x) < 1e-10) {
-                return i;
+        int index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    //Двоичный поиск по xVal за один проход: индекс точного совпадения (с допуском EPSILON)
+    //или -(insertionPoint + 1), как в Arrays.binarySearch; floorIndex = insertionPoint - 1
+    private int searchX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - xVal[mid] >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return -1;
+        if (low < count && xVal[low] - x < EPSILON) {
+            return low;
+        }
+        return -(low + 1);
     }
 
     @Override
@@ -198,12 +225,18 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
         }
 
-        for (int i = 0; i < count - 1; i++) {
-            if (x < xVal[i+1]) { // Разбейте на две строки
-                return i;
+        //Первый индекс из [1, count), у которого xVal > x
+        int low = 1;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xVal[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return count - 1;
+        return low - 1;
     }
 
     @Override
@@ -213,58 +246,328 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         } else if (x > rightBound()) {
             return extrapolateRight(x);
         } else {
-            int index = indexOfX(x);
-            if (index != -1) {
-                return getY(index);
+            return valueInside(x);
+        }
+    }
+
+    //Значение внутри [leftBound, rightBound]: узел с допуском EPSILON или интерполяция по соседним узлам
+    private double valueInside(double x) {
+        int index = searchX(x);
+        if (index >= 0) {
+            return yVal[index];
+        }
+        int floorIndex = -index - 2;
+        return interpolate(x, xVal[floorIndex], xVal[floorIndex + 1], yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    //Те же вычисления, что и в apply, но без виртуальных вызовов на каждую точку.
+    //Отсортированный пакет обходится вместе с таблицей за O(n + m), иначе двоичный поиск на каждую точку
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        if (length == 0) {
+            return;
+        }
+
+        if (count >= 2 && isSortedRange(xs, xsOffset, length)) {
+            applySorted(xs, xsOffset, out, outOffset, length);
+            return;
+        }
+
+        double left = leftBound();
+        double right = rightBound();
+        for (int i = 0; i < length; i++) {
+            double x = xs[xsOffset + i];
+            double value;
+            if (x < left) {
+                value = extrapolateLeft(x);
+            } else if (x > right) {
+                value = extrapolateRight(x);
             } else {
-                return interpolate(x, floorIndexOfX(x));
+                value = valueInside(x);
             }
+            out[outOffset + i] = value;
         }
     }
 
-    @Override
-    public void insert(double x, double y) {
-        int existingIndex = indexOfX(x);
-        if (existingIndex != -1) {
-            yVal[existingIndex] = y;
+    //Отсортированный пакет: точки левее и правее таблицы идут префиксом и суффиксом, а для внутренних
+    //индексы отрезков находятся совместным проходом и передаются блоками в векторное ядро интерполяции
+    private void applySorted(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        double left = xVal[0];
+        double right = xVal[count - 1];
+        int begin = 0;
+        while (begin < length && xs[xsOffset + begin] < left) {
+            out[outOffset + begin] = extrapolateLeft(xs[xsOffset + begin]);
+            begin++;
+        }
+        int end = length;
+        while (end > begin && xs[xsOffset + end - 1] > right) {
+            out[outOffset + end - 1] = extrapolateRight(xs[xsOffset + end - 1]);
+            end--;
+        }
+        if (begin == end) {
             return;
         }
 
-        int insertIndex = 0;
-        while (insertIndex < count && xVal[insertIndex] < x) {
-            insertIndex++;
+        int block = Math.min(end - begin, LERP_BLOCK);
+        int[] floors = new int[block];
+        int[] exactAt = new int[block];
+        int[] exactNode = new int[block];
+        //Точка вставки как в searchX: первый узел, у которого x - xVal < EPSILON. При неубывающих
+        //запросах она только растёт, поэтому ищется галопом от предыдущей: маленький пакет у правого
+        //края большой таблицы стоит O(log n), а не проход от начала
+        int low = 0;
+        for (int start = begin; start < end; start += block) {
+            int blockLength = Math.min(block, end - start);
+            int exact = 0;
+            for (int j = 0; j < blockLength; j++) {
+                double x = xs[xsOffset + start + j];
+                low = gallop(x, low);
+                if (low < count && xVal[low] - x < EPSILON) {
+                    //Узел найден с допуском: ядро считает по любому допустимому отрезку, значение заменим ниже
+                    floors[j] = Math.min(low, count - 2);
+                    exactAt[exact] = j;
+                    exactNode[exact] = low;
+                    exact++;
+                } else {
+                    floors[j] = low - 1;
+                }
+            }
+            ArrayKernels.lerp(xVal, yVal, floors, xs, xsOffset + start, out, outOffset + start, blockLength);
+            for (int e = 0; e < exact; e++) {
+                out[outOffset + start + exactAt[e]] = yVal[exactNode[e]];
+            }
         }
+    }
 
-        if (count >= xVal.length) {
-            int newCapacity = (int) (xVal.length) + 1;
-            xVal = Arrays.copyOf(xVal, newCapacity);
-            yVal = Arrays.copyOf(yVal, newCapacity);
+    //Первый индекс не меньше from, у которого x - xVal < EPSILON: шаги 1, 2, 4, ... от from,
+    //затем двоичный поиск в последнем шаге. Стоит O(log d), где d — расстояние от from до ответа
+    private int gallop(double x, int from) {
+        if (from >= count || x - xVal[from] < EPSILON) {
+            return from;
+        }
+        int low = from;
+        int high = from + 1;
+        long step = 1;
+        while (high < count && x - xVal[high] >= EPSILON) {
+            low = high;
+            step <<= 1;
+            high = (int) Math.min(count, from + step);
+        }
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - xVal[mid] >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
+    }
 
-        if (insertIndex < count) {
-            System.arraycopy(xVal, insertIndex, xVal, insertIndex + 1, count - insertIndex);
-            System.arraycopy(yVal, insertIndex, yVal, insertIndex + 1, count - insertIndex);
+    @Override
+    public void insert(double x, double y) {
+        int index = searchX(x);
+        if (index >= 0) {
+            unshareY();
+            yVal[index] = y;
+            return;
         }
 
+        int insertIndex = -index - 1;
+        //Ёмкость растёт в полтора раза, поэтому n вставок стоят O(n) копирований в сумме, а не O(n^2)
+        int capacity = count < xVal.length ? xVal.length : Math.max(count + 1, xVal.length + (xVal.length >> 1));
+        xVal = openGap(xVal, xShared, insertIndex, capacity);
+        yVal = openGap(yVal, yShared, insertIndex, capacity);
+        xShared = false;
+        yShared = false;
+
         xVal[insertIndex] = x;
         yVal[insertIndex] = y;
         count++;
     }
 
+    //Освобождает место под точку с индексом gap. Свой массив с запасом сдвигает хвост на месте,
+    //а общий со снимком или заполненный сразу копируется в новый уже со сдвинутым хвостом — одно копирование
+    private double[] openGap(double[] values, boolean valuesShared, int gap, int capacity) {
+        if (!valuesShared && capacity == values.length) {
+            System.arraycopy(values, gap, values, gap + 1, count - gap);
+            return values;
+        }
+        double[] copy = new double[capacity];
+        System.arraycopy(values, 0, copy, 0, gap);
+        System.arraycopy(values, gap, copy, gap + 1, count - gap);
+        return copy;
+    }
+
+    //Вставка пачки точек за один проход слиянием: O(n + k log k) вместо k вызовов insert.
+    //Результат тот же, что у последовательных insert: совпавшие (с допуском 1e-10) x заменяют y,
+    //из повторяющихся внутри пачки x побеждает последний
+    public void insertAll(double[] xs, double[] ys) {
+        checkLengthIsTheSame(xs, ys);
+        int k = xs.length;
+        if (k == 0) {
+            return;
+        }
+
+        //Сортируем пачку устойчиво, чтобы среди равных x сохранился исходный порядок
+        int[] order = new int[k];
+        boolean sorted = true;
+        for (int j = 0; j < k; j++) {
+            order[j] = j;
+            if (j > 0 && xs[j] < xs[j - 1]) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            order = sortByX(order, xs);
+        }
+
+        double[] newX = new double[count + k];
+        double[] newY = new double[count + k];
+        int i = 0;
+        int n = 0;
+        //Номер точки пачки, записавшей y последней выходной точки (-1, если это старая точка).
+        //Близкие в пределах допуска x после сортировки могут поменяться местами, поэтому
+        //побеждает точка с большим номером в исходной пачке, а не последняя после сортировки
+        int lastSource = -1;
+        for (int j = 0; j < k; j++) {
+            int source = order[j];
+            double x = xs[source];
+            double y = ys[source];
+            while (i < count && x - xVal[i] >= EPSILON) {
+                newX[n] = xVal[i];
+                newY[n] = yVal[i];
+                n++;
+                i++;
+                lastSource = -1;
+            }
+            if (n > 0 && Math.abs(newX[n - 1] - x) < EPSILON) {
+                if (source > lastSource) {
+                    newY[n - 1] = y;
+                    lastSource = source;
+                }
+            } else if (i < count && xVal[i] - x < EPSILON) {
+                newX[n] = xVal[i];
+                newY[n] = y;
+                n++;
+                i++;
+                lastSource = source;
+            } else {
+                newX[n] = x;
+                newY[n] = y;
+                n++;
+                lastSource = source;
+            }
+        }
+        System.arraycopy(xVal, i, newX, n, count - i);
+        System.arraycopy(yVal, i, newY, n, count - i);
+
+        xVal = newX;
+        yVal = newY;
+        count = n + count - i;
+        xShared = false;
+        yShared = false;
+    }
+
+    //Устойчивая восходящая сортировка слиянием номеров точек по xs[номер], без упаковки в Integer.
+    //Возвращает массив, в котором оказался результат: order или вспомогательный
+    private static int[] sortByX(int[] order, double[] xs) {
+        int k = order.length;
+        int[] buffer = new int[k];
+        for (int width = 1; width < k; width *= 2) {
+            for (int from = 0; from < k; from += 2 * width) {
+                int middle = Math.min(from + width, k);
+                int to = Math.min(from + 2 * width, k);
+                int a = from;
+                int b = middle;
+                int n = from;
+                while (a < middle && b < to) {
+                    //При равных x берётся левая часть — так сохраняется исходный порядок
+                    buffer[n++] = Double.compare(xs[order[b]], xs[order[a]]) < 0 ? order[b++] : order[a++];
+                }
+                while (a < middle) {
+                    buffer[n++] = order[a++];
+                }
+                while (b < to) {
+                    buffer[n++] = order[b++];
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    //Освобождает запас ёмкости, оставшийся после вставок и удалений
+    public void trimToSize() {
+        if (xVal.length > count) {
+            xVal = Arrays.copyOf(xVal, count);
+            yVal = Arrays.copyOf(yVal, count);
+            xShared = false;
+            yShared = false;
+        }
+    }
+
     @Override
     public void remove(int index) {
         if (index < 0 || index >= count) {
             throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + count);
         }
+        unshare();
 
-        for (int i = index; i < count - 1; i++) {
-            xVal[i] = xVal[i + 1];
-            yVal[i] = yVal[i + 1];
-        }
+        System.arraycopy(xVal, index + 1, xVal, index, count - index - 1);
+        System.arraycopy(yVal, index + 1, yVal, index, count - index - 1);
 
         //Уменьшаем количество точек
         count--;
     }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Диапазон: [" + fromIndex + ", " + toIndex + "), размер: " + count);
+        }
+        unshare();
+
+        System.arraycopy(xVal, toIndex, xVal, fromIndex, count - toIndex);
+        System.arraycopy(yVal, toIndex, yVal, fromIndex, count - toIndex);
+        count -= toIndex - fromIndex;
+    }
+
+    @Override
+    public boolean removeIf(DoubleBiPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+
+        //Сначала отмечаем удаляемые точки: если filter бросит исключение, таблица не изменится
+        BitSet marked = new BitSet(count);
+        for (int i = 0; i < count; i++) {
+            if (filter.test(xVal[i], yVal[i])) {
+                marked.set(i);
+            }
+        }
+        if (marked.isEmpty()) {
+            return false;
+        }
+        unshare();
+
+        //Уплотнение за один проход: оставшиеся точки сдвигаются на место удалённых
+        int kept = marked.nextSetBit(0);
+        for (int i = kept + 1; i < count; i++) {
+            if (!marked.get(i)) {
+                xVal[kept] = xVal[i];
+                yVal[kept] = yVal[i];
+                kept++;
+            }
+        }
+        count = kept;
+        return true;
+    }
     public double[] getxVal() {
         return Arrays.copyOf(xVal, count);
     }
@@ -272,6 +575,69 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         return Arrays.copyOf(yVal, count);
     }
 
+    //Снимок без копирования: массивы переходят снимку, а таблица скопирует их при следующем изменении
+    @Override
+    public TabulatedFunction freeze() {
+        xShared = true;
+        yShared = true;
+        return new FrozenTabulatedFunction(xVal, yVal, count);
+    }
+
+    //Копирование при записи после freeze(); ёмкость сохраняется
+    private void unshare() {
+        if (xShared) {
+            xVal = Arrays.copyOf(xVal, xVal.length);
+            xShared = false;
+        }
+        unshareY();
+    }
+
+    private void unshareY() {
+        if (yShared) {
+            yVal = Arrays.copyOf(yVal, yVal.length);
+            yShared = false;
+        }
+    }
+
+    //Без копирования: вид над xVal и yVal
+    @Override
+    public TabulatedColumns columns() {
+        return TabulatedColumns.wrap(xVal, yVal, count);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xVal[i], yVal[i]);
+        }
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private int i = -1;
+
+            @Override
+            public boolean next() {
+                if (i + 1 >= count) {
+                    return false;
+                }
+                i++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return xVal[i];
+            }
+
+            @Override
+            public double y() {
+                return yVal[i];
+            }
+        };
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
@@ -0,0 +1,102 @@
+package functions;
+
+import java.util.Arrays;
+
+//Кусочное приближение рядами Чебышёва: на отрезке [breakpoints[i], breakpoints[i+1]]
+//значение равно сумме coefficients[i][j] * T_j(t), где t — x, линейно переведённый в [-1, 1].
+//Сумма считается схемой Кленшоу без вычисления самих T_j. Строится ChebyshevCompiler;
+//за пределами [leftBound, rightBound] продолжается крайний многочлен, точность там не гарантируется
+public class ChebyshevFunction implements MathFunction {
+    private final double[] breakpoints;
+    private final double[][] coefficients;
+    private final double maxError;
+
+    public ChebyshevFunction(double[] breakpoints, double[][] coefficients, double maxError) {
+        if (breakpoints.length < 2 || coefficients.length != breakpoints.length - 1) {
+            throw new IllegalArgumentException("Нужно на одну границу больше, чем кусков");
+        }
+        for (int i = 1; i < breakpoints.length; i++) {
+            if (!(breakpoints[i] > breakpoints[i - 1])) {
+                throw new IllegalArgumentException("Границы кусков должны возрастать");
+            }
+        }
+        this.breakpoints = Arrays.copyOf(breakpoints, breakpoints.length);
+        this.coefficients = new double[coefficients.length][];
+        for (int i = 0; i < coefficients.length; i++) {
+            if (coefficients[i].length == 0) {
+                throw new IllegalArgumentException("У куска " + i + " нет коэффициентов");
+            }
+            this.coefficients[i] = Arrays.copyOf(coefficients[i], coefficients[i].length);
+        }
+        this.maxError = maxError;
+    }
+
+    //Кусок, содержащий x; крайние куски продолжаются за границы
+    private int pieceOf(double x) {
+        int low = 1;
+        int high = breakpoints.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (breakpoints[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    @Override
+    public double apply(double x) {
+        int piece = pieceOf(x);
+        double a = breakpoints[piece];
+        double b = breakpoints[piece + 1];
+        return clenshaw(coefficients[piece], (2 * x - a - b) / (b - a));
+    }
+
+    //Сумма c[j] * T_j(t) по рекуррентности b_j = c_j + 2t b_{j+1} - b_{j+2}
+    public static double clenshaw(double[] c, double t) {
+        double b1 = 0;
+        double b2 = 0;
+        double twoT = 2 * t;
+        for (int j = c.length - 1; j >= 1; j--) {
+            double b0 = c[j] + twoT * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return c[0] + t * b1 - b2;
+    }
+
+    public double leftBound() {
+        return breakpoints[0];
+    }
+
+    public double rightBound() {
+        return breakpoints[breakpoints.length - 1];
+    }
+
+    //Погрешность, измеренная компилятором на контрольных точках каждого куска
+    public double maxError() {
+        return maxError;
+    }
+
+    public int pieceCount() {
+        return coefficients.length;
+    }
+
+    public int coefficientCount() {
+        int total = 0;
+        for (double[] c : coefficients) {
+            total += c.length;
+        }
+        return total;
+    }
+
+    public double breakpoint(int index) {
+        return breakpoints[index];
+    }
+
+    public double[] pieceCoefficients(int piece) {
+        return Arrays.copyOf(coefficients[piece], coefficients[piece].length);
+    }
+}
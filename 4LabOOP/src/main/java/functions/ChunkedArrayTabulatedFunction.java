@@ -0,0 +1,714 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+//Табулированная функция, точки которой лежат в чанках фиксированной ёмкости. Верхний уровень —
+//массивы firstX (x первой точки чанка) и offsets (глобальный индекс первой точки чанка),
+//по ним двоичным поиском находится нужный чанк. Вставка и удаление сдвигают точки только внутри
+//одного чанка и поправляют offsets последующих чанков; переполненный чанк делится пополам,
+//слишком пустой сливается с соседом. Количество точек хранится в long, поэтому таблица не
+//ограничена Integer.MAX_VALUE точками и не требует одного непрерывного массива.
+//Методы интерфейса с int-индексами работают, пока точек не больше Integer.MAX_VALUE,
+//для больших таблиц есть size(), getX(long), getY(long), setY(long, double) и т.д.
+public class ChunkedArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable {
+    private static final double EPSILON = 1e-10;
+    private static final int DEFAULT_CHUNK_CAPACITY = 2048;
+
+    private static final class Chunk {
+        final double[] x;
+        final double[] y;
+        int size;
+
+        Chunk(int capacity) {
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private Chunk[] chunks;
+    private double[] firstX;
+    private long[] offsets;
+    private int chunkCount;
+    private long size;
+
+    public ChunkedArrayTabulatedFunction(double[] xVal, double[] yVal) {
+        this(xVal, yVal, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    //Ёмкость чанка задаётся явно в тестах, чтобы деление и слияние происходили на маленьких таблицах
+    ChunkedArrayTabulatedFunction(double[] xVal, double[] yVal, int chunkCapacity) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+
+        this.chunkCapacity = checkChunkCapacity(chunkCapacity);
+        initChunks(xVal.length);
+        for (int i = 0; i < xVal.length; i++) {
+            append(xVal[i], yVal[i]);
+        }
+    }
+
+    public ChunkedArrayTabulatedFunction(MathFunction s, double xFrom, double xTo, long count) {
+        this(s, xFrom, xTo, count, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    ChunkedArrayTabulatedFunction(MathFunction s, double xFrom, double xTo, long count, int chunkCapacity) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        this.chunkCapacity = checkChunkCapacity(chunkCapacity);
+        initChunks(count);
+        //Дискретизация
+        double step = (xTo - xFrom) / (count - 1);
+        for (long i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            append(x, s.apply(x));
+        }
+    }
+
+    private static int checkChunkCapacity(int chunkCapacity) {
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException("Ёмкость чанка должна быть не меньше 4");
+        }
+        return chunkCapacity;
+    }
+
+    //Начальное заполнение оставляет в чанках четверть ёмкости под вставки
+    private int fillLimit() {
+        return chunkCapacity - chunkCapacity / 4;
+    }
+
+    private void initChunks(long expectedPoints) {
+        int expectedChunks = (int) Math.min(Integer.MAX_VALUE - 8, expectedPoints / fillLimit() + 1);
+        chunks = new Chunk[expectedChunks];
+        firstX = new double[expectedChunks];
+        offsets = new long[expectedChunks];
+        chunks[0] = new Chunk(chunkCapacity);
+        chunkCount = 1;
+        size = 0;
+    }
+
+    //Добавление в конец при построении таблицы из отсортированных данных
+    private void append(double x, double y) {
+        Chunk last = chunks[chunkCount - 1];
+        if (last.size == fillLimit()) {
+            insertChunkAt(chunkCount, new Chunk(chunkCapacity));
+            offsets[chunkCount - 1] = size;
+            last = chunks[chunkCount - 1];
+        }
+        if (last.size == 0) {
+            firstX[chunkCount - 1] = x;
+        }
+        last.x[last.size] = x;
+        last.y[last.size] = y;
+        last.size++;
+        size++;
+        updateCount();
+    }
+
+    private void updateCount() {
+        count = (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    //Вставляет чанк в верхний уровень на позицию index; offsets нового чанка заполняет вызывающий
+    private void insertChunkAt(int index, Chunk chunk) {
+        if (chunkCount == chunks.length) {
+            int newLength = Math.max(chunkCount + 1, chunkCount + (chunkCount >> 1));
+            chunks = Arrays.copyOf(chunks, newLength);
+            firstX = Arrays.copyOf(firstX, newLength);
+            offsets = Arrays.copyOf(offsets, newLength);
+        }
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        System.arraycopy(firstX, index, firstX, index + 1, chunkCount - index);
+        System.arraycopy(offsets, index, offsets, index + 1, chunkCount - index);
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunkAt(int index) {
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        System.arraycopy(firstX, index + 1, firstX, index, chunkCount - index - 1);
+        System.arraycopy(offsets, index + 1, offsets, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    //Чанк, содержащий точку с глобальным индексом index: последний с offsets <= index
+    private int chunkOf(long index) {
+        int low = 1;
+        int high = chunkCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private double xAt(long index) {
+        int c = chunkOf(index);
+        return chunks[c].x[(int) (index - offsets[c])];
+    }
+
+    private double yAt(long index) {
+        int c = chunkOf(index);
+        return chunks[c].y[(int) (index - offsets[c])];
+    }
+
+    //Глобальный индекс точки с совпадающим x (с допуском EPSILON) или -(insertionPoint + 1),
+    //где insertionPoint — первая точка, у которой x - xVal < EPSILON
+    private long searchX(double x) {
+        if (size == 0) {
+            return -1;
+        }
+        //Первый чанк, первая точка которого уже удовлетворяет условию
+        int low = 0;
+        int high = chunkCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - firstX[mid] >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return firstX[0] - x < EPSILON ? 0 : -1;
+        }
+
+        //Точка вставки лежит в предыдущем чанке после его первой точки или совпадает с началом чанка low
+        Chunk chunk = chunks[low - 1];
+        int local = 1;
+        int localHigh = chunk.size;
+        while (local < localHigh) {
+            int mid = (local + localHigh) >>> 1;
+            if (x - chunk.x[mid] >= EPSILON) {
+                local = mid + 1;
+            } else {
+                localHigh = mid;
+            }
+        }
+        long insertion = offsets[low - 1] + local;
+        double candidate;
+        if (local < chunk.size) {
+            candidate = chunk.x[local];
+        } else if (low < chunkCount) {
+            candidate = firstX[low];
+        } else {
+            return -(insertion + 1);
+        }
+        return candidate - x < EPSILON ? insertion : -(insertion + 1);
+    }
+
+    //Последний чанк, первая точка которого не правее value
+    private int floorChunk(double value) {
+        int low = 1;
+        int high = chunkCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (firstX[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    //Индекс последней точки чанка с x <= value
+    private static int floorInChunk(Chunk chunk, double value) {
+        int low = 1;
+        int high = chunk.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunk.x[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    //Индекс последней точки с x <= value, value в границах таблицы
+    private long floorIndex(double value) {
+        int c = floorChunk(value);
+        return offsets[c] + floorInChunk(chunks[c], value);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int getCount() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Точек больше, чем Integer.MAX_VALUE, используйте size()");
+        }
+        return (int) size;
+    }
+
+    public double getX(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + size);
+        }
+        return xAt(index);
+    }
+
+    @Override
+    public double getX(int index) {
+        return getX((long) index);
+    }
+
+    public double getY(long index) {
+        checkIndex(index);
+        return yAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        return getY((long) index);
+    }
+
+    public void setY(long index, double value) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + size);
+        }
+        int c = chunkOf(index);
+        chunks[c].y[(int) (index - offsets[c])] = value;
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        setY((long) index, value);
+    }
+
+    //Индекс точки с заданным x или -1
+    public long indexOfXAsLong(double x) {
+        long index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        long index = indexOfXAsLong(x);
+        if (index > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Индекс больше Integer.MAX_VALUE, используйте indexOfXAsLong");
+        }
+        return (int) index;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        long index = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++, index++) {
+                if (Math.abs(chunk.y[i] - y) < EPSILON) {
+                    if (index > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("Индекс больше Integer.MAX_VALUE");
+                    }
+                    return (int) index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить левую границу");
+        }
+        return firstX[0];
+    }
+
+    @Override
+    public double rightBound() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить правую границу");
+        }
+        Chunk last = chunks[chunkCount - 1];
+        return last.x[last.size - 1];
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+        long index = floorIndex(x);
+        if (index > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Индекс больше Integer.MAX_VALUE");
+        }
+        return (int) index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        if (size < 2) throw new IllegalArgumentException();
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        if (size < 2) throw new IllegalArgumentException();
+        return interpolate(x, xAt(size - 2), xAt(size - 1), yAt(size - 2), yAt(size - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= size - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = xAt(floorIndex);
+        double x2 = xAt(floorIndex + 1L);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, yAt(floorIndex), yAt(floorIndex + 1L));
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            //Чанк и отрезок находим за один спуск, без повторного поиска чанка для соседей
+            int c = floorChunk(x);
+            Chunk chunk = chunks[c];
+            int local = floorInChunk(chunk, x);
+            double x1 = chunk.x[local];
+            double y1 = chunk.y[local];
+            if (x - x1 < EPSILON) {
+                return y1;
+            }
+            Chunk right = local + 1 < chunk.size ? chunk : chunks[c + 1];
+            int rightLocal = local + 1 < chunk.size ? local + 1 : 0;
+            double x2 = right.x[rightLocal];
+            double y2 = right.y[rightLocal];
+            if (x2 - x < EPSILON) {
+                return y2;
+            }
+            return interpolate(x, x1, x2, y1, y2);
+        }
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        long index = searchX(x);
+        if (index >= 0) {
+            int c = chunkOf(index);
+            chunks[c].y[(int) (index - offsets[c])] = y;
+            return;
+        }
+
+        //Точку кладём в чанк, где лежит её левый сосед (или в первый чанк, если соседа нет)
+        long insertion = -index - 1;
+        int c = insertion == 0 ? 0 : chunkOf(insertion - 1);
+        if (chunks[c].size == chunkCapacity) {
+            splitChunk(c);
+            if (insertion - offsets[c] > chunks[c].size) {
+                c++;
+            }
+        }
+
+        Chunk chunk = chunks[c];
+        int local = (int) (insertion - offsets[c]);
+        System.arraycopy(chunk.x, local, chunk.x, local + 1, chunk.size - local);
+        System.arraycopy(chunk.y, local, chunk.y, local + 1, chunk.size - local);
+        chunk.x[local] = x;
+        chunk.y[local] = y;
+        chunk.size++;
+        if (local == 0) {
+            firstX[c] = x;
+        }
+        for (int k = c + 1; k < chunkCount; k++) {
+            offsets[k]++;
+        }
+        size++;
+        updateCount();
+    }
+
+    //Делит полный чанк c пополам, вторая половина становится чанком c + 1
+    private void splitChunk(int c) {
+        Chunk chunk = chunks[c];
+        int half = chunk.size / 2;
+        Chunk right = new Chunk(chunkCapacity);
+        right.size = chunk.size - half;
+        System.arraycopy(chunk.x, half, right.x, 0, right.size);
+        System.arraycopy(chunk.y, half, right.y, 0, right.size);
+        chunk.size = half;
+
+        insertChunkAt(c + 1, right);
+        firstX[c + 1] = right.x[0];
+        offsets[c + 1] = offsets[c] + half;
+    }
+
+    public void remove(long index) {
+        checkIndex(index);
+
+        int c = chunkOf(index);
+        Chunk chunk = chunks[c];
+        int local = (int) (index - offsets[c]);
+        System.arraycopy(chunk.x, local + 1, chunk.x, local, chunk.size - local - 1);
+        System.arraycopy(chunk.y, local + 1, chunk.y, local, chunk.size - local - 1);
+        chunk.size--;
+        if (local == 0 && chunk.size > 0) {
+            firstX[c] = chunk.x[0];
+        }
+        for (int k = c + 1; k < chunkCount; k++) {
+            offsets[k]--;
+        }
+        size--;
+        updateCount();
+        rebalance(c);
+    }
+
+    @Override
+    public void remove(int index) {
+        remove((long) index);
+    }
+
+    //Пустой чанк удаляется, чанк меньше четверти ёмкости сливается с соседом, если они помещаются в один
+    private void rebalance(int c) {
+        Chunk chunk = chunks[c];
+        if (chunkCount == 1) {
+            return;
+        }
+        if (chunk.size == 0) {
+            removeChunkAt(c);
+            return;
+        }
+        if (chunk.size >= chunkCapacity / 4) {
+            return;
+        }
+        if (c + 1 < chunkCount && chunk.size + chunks[c + 1].size <= chunkCapacity) {
+            mergeWithNext(c);
+        } else if (c > 0 && chunks[c - 1].size + chunk.size <= chunkCapacity) {
+            mergeWithNext(c - 1);
+        }
+    }
+
+    private void mergeWithNext(int c) {
+        Chunk left = chunks[c];
+        Chunk right = chunks[c + 1];
+        System.arraycopy(right.x, 0, left.x, left.size, right.size);
+        System.arraycopy(right.y, 0, left.y, left.size, right.size);
+        left.size += right.size;
+        removeChunkAt(c + 1);
+    }
+
+    public void removeRange(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Диапазон: [" + fromIndex + ", " + toIndex + "), размер: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        //Внутри каждого затронутого чанка вырезаем свой кусок, верхний уровень правим одним проходом
+        int first = chunkOf(fromIndex);
+        int last = chunkOf(toIndex - 1);
+        for (int c = first; c <= last; c++) {
+            Chunk chunk = chunks[c];
+            int from = (int) Math.max(0, fromIndex - offsets[c]);
+            int to = (int) Math.min(chunk.size, toIndex - offsets[c]);
+            System.arraycopy(chunk.x, to, chunk.x, from, chunk.size - to);
+            System.arraycopy(chunk.y, to, chunk.y, from, chunk.size - to);
+            chunk.size -= to - from;
+        }
+        compact();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        removeRange((long) fromIndex, (long) toIndex);
+    }
+
+    @Override
+    public boolean removeIf(DoubleBiPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+
+        //Сначала отмечаем удаляемые точки во всех чанках: если filter бросит исключение,
+        //таблица не изменится. Отметки хранятся по чанкам и заводятся только там, где есть что удалять
+        BitSet[] marked = new BitSet[chunkCount];
+        boolean any = false;
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                if (filter.test(chunk.x[i], chunk.y[i])) {
+                    if (marked[c] == null) {
+                        marked[c] = new BitSet(chunk.size);
+                    }
+                    marked[c].set(i);
+                    any = true;
+                }
+            }
+        }
+        if (!any) {
+            return false;
+        }
+
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            BitSet chunkMarks = marked[c];
+            if (chunkMarks == null) {
+                continue;
+            }
+            int kept = 0;
+            for (int i = 0; i < chunk.size; i++) {
+                if (!chunkMarks.get(i)) {
+                    chunk.x[kept] = chunk.x[i];
+                    chunk.y[kept] = chunk.y[i];
+                    kept++;
+                }
+            }
+            chunk.size = kept;
+        }
+        compact();
+        return true;
+    }
+
+    //После массового удаления: убирает пустые чанки, сливает соседние маленькие
+    //и пересчитывает firstX, offsets и size за один проход по верхнему уровню
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < chunkCount; read++) {
+            Chunk chunk = chunks[read];
+            if (chunk.size == 0) {
+                continue;
+            }
+            if (write > 0) {
+                Chunk previous = chunks[write - 1];
+                if ((previous.size < chunkCapacity / 4 || chunk.size < chunkCapacity / 4)
+                        && previous.size + chunk.size <= chunkCapacity) {
+                    System.arraycopy(chunk.x, 0, previous.x, previous.size, chunk.size);
+                    System.arraycopy(chunk.y, 0, previous.y, previous.size, chunk.size);
+                    previous.size += chunk.size;
+                    continue;
+                }
+            }
+            chunks[write++] = chunk;
+        }
+        if (write == 0) {
+            chunks[write++] = new Chunk(chunkCapacity);
+        }
+        Arrays.fill(chunks, write, chunkCount, null);
+        chunkCount = write;
+
+        long offset = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            offsets[c] = offset;
+            firstX[c] = chunks[c].x[0];
+            offset += chunks[c].size;
+        }
+        size = offset;
+        updateCount();
+    }
+
+    //Число чанков верхнего уровня; для тестов деления и слияния
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                action.accept(chunk.x[i], chunk.y[i]);
+            }
+        }
+    }
+
+    //В отличие от cursor() по умолчанию не ищет чанк заново для каждой точки
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private int c = 0;
+            private int i = -1;
+
+            @Override
+            public boolean next() {
+                i++;
+                while (c < chunkCount && i >= chunks[c].size) {
+                    c++;
+                    i = 0;
+                }
+                return c < chunkCount;
+            }
+
+            @Override
+            public double x() {
+                return chunks[c].x[i];
+            }
+
+            @Override
+            public double y() {
+                return chunks[c].y[i];
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int c = 0;
+            private int i = 0;
+            private long visited = 0;
+
+            @Override
+            public boolean hasNext() {
+                return visited < size;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                while (i >= chunks[c].size) {
+                    c++;
+                    i = 0;
+                }
+                Point point = new Point(chunks[c].x[i], chunks[c].y[i]);
+                i++;
+                visited++;
+                return point;
+            }
+        };
+    }
+}
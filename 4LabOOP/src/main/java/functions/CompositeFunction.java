@@ -16,4 +16,11 @@ public class CompositeFunction implements MathFunction{
         return firstFunction.apply(interResult);//f(g(x))
     }
 
+    //Цепочка вычисляется пакетами: сначала g по всему диапазону, затем f на месте в out
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        secondFunction.applyAll(xs, xsOffset, out, outOffset, length);
+        firstFunction.applyAll(out, outOffset, out, outOffset, length);
+    }
+
 }
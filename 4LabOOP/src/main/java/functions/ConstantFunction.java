@@ -1,5 +1,8 @@
 package functions;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 public class ConstantFunction implements MathFunction{
     private final double constant;
 
@@ -12,6 +15,13 @@ public class ConstantFunction implements MathFunction{
         return constant;
     }
 
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        Arrays.fill(out, outOffset, outOffset + length, constant);
+    }
+
     public double getConstant() {
         return constant;
     }
@@ -0,0 +1,7 @@
+package functions;
+
+//Действие над точкой таблицы без упаковки x и y в объекты
+@FunctionalInterface
+public interface DoubleBiConsumer {
+    void accept(double x, double y);
+}
@@ -0,0 +1,7 @@
+package functions;
+
+//Условие на точку таблицы без упаковки x и y в объекты
+@FunctionalInterface
+public interface DoubleBiPredicate {
+    boolean test(double x, double y);
+}
@@ -0,0 +1,285 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+//Неизменяемый снимок табулированной функции для частых вычислений на больших таблицах.
+//Кроме отсортированных xVal/yVal хранится копия x в порядке Эйтцингера (обход дерева поиска
+//в ширину: корень в ячейке 1, дети ячейки k — 2k и 2k + 1). Первые уровни дерева лежат рядом
+//в начале массива и остаются в кэше, а спуск идёт без ветвлений: k = 2k + (keys[k] <= x).
+//Дерево дополнено +∞ до полного, поэтому число шагов всегда равно высоте, а позиция узла
+//в отсортированном массиве вычисляется из его номера без отдельной таблицы соответствия.
+//Одиночный спуск упирается в задержку памяти на каждом уровне, а prefetch в Java недоступен,
+//поэтому applyAll ведёт спуск сразу для LANES запросов: их промахи кэша обрабатываются параллельно
+public class EytzingerTabulatedFunction extends AbstractTabulatedFunction {
+    private static final double EPSILON = 1e-10;
+    private static final int LANES = 8;
+    //keys дополняется до 2^height ячеек, а номера ячеек при спуске доходят до 2^(height + 1) - 1:
+    //и то и другое должно помещаться в int, поэтому height не больше 30
+    private static final int MAX_HEIGHT = 30;
+    private static final int MAX_SIZE = (1 << MAX_HEIGHT) - 1;
+
+    private final double[] xVal;
+    private final double[] yVal;
+    //keys[0] не используется, длина keys — степень двойки
+    private final double[] keys;
+    private final int height;
+
+    public EytzingerTabulatedFunction(TabulatedFunction function) {
+        int size = function.getCount();
+        if (size < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Дерево Эйтцингера вмещает не больше " + MAX_SIZE
+                    + " точек, в таблице " + size);
+        }
+        double[] x = new double[size];
+        double[] y = new double[size];
+        int i = 0;
+        for (Point point : function) {
+            x[i] = point.x;
+            y[i] = point.y;
+            i++;
+        }
+        this.xVal = x;
+        this.yVal = y;
+        this.count = size;
+
+        int levels = 1;
+        while ((1L << levels) - 1 < size) {
+            levels++;
+        }
+        this.height = levels;
+        this.keys = new double[(int) (1L << levels)];
+        Arrays.fill(keys, Double.POSITIVE_INFINITY);
+        fill(1, 0);
+    }
+
+    public EytzingerTabulatedFunction(double[] xVal, double[] yVal) {
+        this(new ArrayTabulatedFunction(xVal, yVal));
+    }
+
+    //Симметричный обход дерева раскладывает отсортированные x по ячейкам; возвращает следующий индекс
+    private int fill(int k, int next) {
+        if (k >= keys.length) {
+            return next;
+        }
+        next = fill(2 * k, next);
+        if (next < count) {
+            keys[k] = xVal[next];
+        }
+        next++;
+        return fill(2 * k + 1, next);
+    }
+
+    //Позиция в отсортированном массиве для ячейки k: узел уровня d с номером p на уровне
+    //в полном дереве высоты height стоит на месте (2p + 1) * 2^(height - 1 - d) - 1
+    private int rank(int k) {
+        int level = 31 - Integer.numberOfLeadingZeros(k);
+        int shift = height - 1 - level;
+        return ((2 * (k - (1 << level)) + 1) << shift) - 1;
+    }
+
+    //Спуск завершается в листе ниже дерева; последний поворот налево указывает на ответ.
+    //Возвращает число точек с x <= value (индекс первой точки правее value)
+    private int upperBound(double value) {
+        int k = 1;
+        for (int level = 0; level < height; level++) {
+            k = 2 * k + (keys[k] <= value ? 1 : 0);
+        }
+        return positionOfLeaf(k);
+    }
+
+    private int positionOfLeaf(int k) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? count : Math.min(rank(k), count);
+    }
+
+    //То же условие, что в двоичном поиске ArrayTabulatedFunction: вправо, пока x - key >= EPSILON
+    private int lowerBound(double value) {
+        int k = 1;
+        for (int level = 0; level < height; level++) {
+            k = 2 * k + (value - keys[k] >= EPSILON ? 1 : 0);
+        }
+        return positionOfLeaf(k);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = lowerBound(x);
+        return index < count && xVal[index] - x < EPSILON ? index : -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+        return upperBound(x) - 1;
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound() || x > rightBound()) {
+            return valueAt(x, 0);
+        }
+        return valueAt(x, upperBound(x));
+    }
+
+    //upperBound — число точек с x <= value, для точек вне таблицы не используется
+    private double valueAt(double x, int upperBound) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int floor = upperBound - 1;
+            if (x - xVal[floor] < EPSILON) {
+                return yVal[floor];
+            }
+            if (xVal[floor + 1] - x < EPSILON) {
+                return yVal[floor + 1];
+            }
+            return interpolate(x, xVal[floor], xVal[floor + 1], yVal[floor], yVal[floor + 1]);
+        }
+    }
+
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+
+        //Запросы группы копируются в lane до записи результатов, поэтому out может совпадать с xs
+        double[] lane = new double[LANES];
+        int[] k = new int[LANES];
+        int i = 0;
+        for (; i + LANES <= length; i += LANES) {
+            System.arraycopy(xs, xsOffset + i, lane, 0, LANES);
+            Arrays.fill(k, 1);
+            for (int level = 0; level < height; level++) {
+                for (int j = 0; j < LANES; j++) {
+                    int node = k[j];
+                    k[j] = 2 * node + (keys[node] <= lane[j] ? 1 : 0);
+                }
+            }
+            for (int j = 0; j < LANES; j++) {
+                out[outOffset + i + j] = valueAt(lane[j], positionOfLeaf(k[j]));
+            }
+        }
+        for (; i < length; i++) {
+            out[outOffset + i] = apply(xs[xsOffset + i]);
+        }
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xVal[0], xVal[1], yVal[0], yVal[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xVal[count - 2], xVal[count - 1], yVal[count - 2], yVal[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = xVal[floorIndex];
+        double x2 = xVal[floorIndex + 1];
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        return xVal[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return yVal[index];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        throw new UnsupportedOperationException("Снимок только для чтения");
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yVal[i] - y) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xVal[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return xVal[count - 1];
+    }
+
+    @Override
+    public TabulatedFunction freeze() {
+        return this;
+    }
+
+    //Снимок неизменяем, поэтому столбцы отдаются без копирования
+    @Override
+    public TabulatedColumns columns() {
+        return TabulatedColumns.wrap(xVal, yVal, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(xVal[i], yVal[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
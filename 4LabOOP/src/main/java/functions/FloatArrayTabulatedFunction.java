@@ -0,0 +1,281 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.InterpolationException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+//Табулированная функция с x и y в float[]: вдвое меньше памяти и трафика кэша, чем у
+//ArrayTabulatedFunction. Значения расширяются до double только на границе интерфейса,
+//вся арифметика (поиск, интерполяция) идёт в double.
+//Погрешность хранения: каждое значение округляется до ближайшего float, относительная ошибка
+//не больше 2^-24 (~6e-8), |x| и |y| до ~3.4e38. Для точки внутри отрезка ошибка результата
+//|dy| <= 2^-24 * max(|y1|, |y2|) + |k| * 2^-24 * max(|x1|, |x2|), где k — наклон отрезка.
+//Узлы, различные в double, но совпавшие после округления до float, недопустимы
+public class FloatArrayTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+    private static final long serialVersionUID = 5160487725014368221L;
+
+    private final float[] xVal;
+    private final float[] yVal;
+
+    public FloatArrayTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+
+        this.count = xVal.length;
+        this.xVal = new float[count];
+        this.yVal = new float[count];
+        for (int i = 0; i < count; i++) {
+            this.xVal[i] = (float) xVal[i];
+            this.yVal[i] = (float) yVal[i];
+        }
+        checkSortedAfterRounding();
+    }
+
+    public FloatArrayTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        this.count = count;
+        this.xVal = new float[count];
+        this.yVal = new float[count];
+        //Дискретизация в double, округляется только результат
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            xVal[i] = (float) x;
+            yVal[i] = (float) s.apply(x);
+        }
+        if (xFrom != xTo) {
+            checkSortedAfterRounding();
+        }
+    }
+
+    private void checkSortedAfterRounding() {
+        for (int i = 1; i < count; i++) {
+            if (xVal[i] <= xVal[i - 1]) {
+                throw new ArrayIsNotSortedException("Значения x совпадают после округления до float");
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        //count объявлен в несериализуемом AbstractTabulatedFunction и восстанавливается по массиву
+        count = xVal.length;
+    }
+
+    //Двоичный поиск: индекс узла или -(insertionPoint + 1). Узлы хранятся округлёнными до float,
+    //поэтому запрос тоже округляется: x = 0.1 совпадает с узлом 0.1f, хотя отличается от него на 1.5e-9.
+    //Без совпадения узлы по обе стороны от (float) x лежат по те же стороны и от самого x
+    private int searchX(double x) {
+        float key = (float) x;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xVal[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low < count && xVal[low] == key) {
+            return low;
+        }
+        return -(low + 1);
+    }
+
+    //Левый узел интервала, содержащего (float) x; последний узел относится к последнему интервалу,
+    //поэтому результат всегда годится для interpolate(x, floorIndex)
+    @Override
+    protected int floorIndexOfX(double x) {
+        float key = (float) x;
+        if (key < xVal[0]) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (key > xVal[count - 1]) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        int low = 1;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xVal[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xVal[0], xVal[1], yVal[0], yVal[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xVal[count - 2], xVal[count - 1], yVal[count - 2], yVal[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        //Интервал проверяется по тому же ключу (float) x, что и в floorIndexOfX; запрос,
+        //совпавший с узлом после округления, даёт хранимый y, как и apply
+        float key = (float) x;
+        float x1 = xVal[floorIndex];
+        float x2 = xVal[floorIndex + 1];
+        if (key < x1 || key > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        if (key == x1) {
+            return yVal[floorIndex];
+        }
+        if (key == x2) {
+            return yVal[floorIndex + 1];
+        }
+        return interpolate(x, x1, x2, yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    @Override
+    public double apply(double x) {
+        return value(x);
+    }
+
+    //Узел проверяется до границ: x у крайнего узла может оказаться чуть за округлённой границей
+    private double value(double x) {
+        int index = searchX(x);
+        if (index >= 0) {
+            return yVal[index];
+        }
+        int insertionPoint = -index - 1;
+        if (insertionPoint == 0) {
+            return extrapolateLeft(x);
+        }
+        if (insertionPoint == count) {
+            return extrapolateRight(x);
+        }
+        int floorIndex = insertionPoint - 1;
+        return interpolate(x, xVal[floorIndex], xVal[floorIndex + 1], yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = value(xs[xsOffset + i]);
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        return xVal[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return yVal[index];
+    }
+
+    //Новое значение тоже округляется до float
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        yVal[index] = (float) value;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (yVal[i] == (float) y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xVal[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return xVal[count - 1];
+    }
+
+    //Копии хранимых значений без расширения до double
+    public float[] toFloatXArray() {
+        return Arrays.copyOf(xVal, count);
+    }
+
+    public float[] toFloatYArray() {
+        return Arrays.copyOf(yVal, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(xVal[i], yVal[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
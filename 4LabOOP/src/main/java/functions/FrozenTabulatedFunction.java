@@ -0,0 +1,71 @@
+package functions;
+
+//Неизменяемый снимок таблицы, который возвращает freeze(). Массивы после создания снимка
+//больше никто не меняет (ArrayTabulatedFunction перед следующей записью переходит на свою копию),
+//а поля final, поэтому снимок можно читать из любых потоков без блокировок
+public final class FrozenTabulatedFunction extends AbstractSortedTabulatedFunction {
+    private final double[] xVal;
+    private final double[] yVal;
+    //Своё final-поле вместо count из AbstractTabulatedFunction: так снимок безопасно публикуется без синхронизации
+    private final int count;
+
+    //Массивы не копируются: вызывающий гарантирует, что в первые count элементов больше не пишут
+    FrozenTabulatedFunction(double[] xVal, double[] yVal, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        this.xVal = xVal;
+        this.yVal = yVal;
+        this.count = count;
+    }
+
+    //Снимок с копированием точек, для таблиц без разделяемых массивов
+    static FrozenTabulatedFunction copyOf(TabulatedFunction function) {
+        int size = function.getCount();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        PointCursor cursor = function.cursor();
+        for (int i = 0; cursor.next(); i++) {
+            x[i] = cursor.x();
+            y[i] = cursor.y();
+        }
+        return new FrozenTabulatedFunction(x, y, size);
+    }
+
+    @Override
+    protected double xAt(int index) {
+        return xVal[index];
+    }
+
+    @Override
+    protected double yAt(int index) {
+        return yVal[index];
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        throw new UnsupportedOperationException("Снимок неизменяем");
+    }
+
+    @Override
+    public TabulatedFunction freeze() {
+        return this;
+    }
+
+    @Override
+    public TabulatedColumns columns() {
+        return TabulatedColumns.wrap(xVal, yVal, count);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xVal[i], yVal[i]);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package functions;
 
+import java.util.Objects;
+
 public class IdentityFunction implements MathFunction {
 
     @Override
@@ -7,4 +9,11 @@ public class IdentityFunction implements MathFunction {
         return x;
     }
 
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        System.arraycopy(xs, xsOffset, out, outOffset, length);
+    }
+
 }
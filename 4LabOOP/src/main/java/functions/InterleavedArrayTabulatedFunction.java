@@ -0,0 +1,157 @@
+package functions;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+//Табулированная функция с точками в одном массиве [x0, y0, x1, y1, ...]. Оба конца отрезка
+//интерполяции (x1, y1, x2, y2) лежат подряд в 32 байтах, то есть обычно в одной строке кэша,
+//тогда как у ArrayTabulatedFunction это две строки в разных массивах.
+//Двоичный поиск прямо по чередующемуся массиву задевает вдвое больше строк кэша, поэтому
+//сначала он идёт по компактному массиву keys (каждый BLOCK-й x), а затем внутри одного блока
+//из BLOCK точек (256 байт), который потом нужен и для интерполяции
+public class InterleavedArrayTabulatedFunction extends AbstractSortedTabulatedFunction implements Serializable {
+    private static final long serialVersionUID = -6795503383546043950L;
+    private static final double EPSILON = 1e-10;
+    private static final int BLOCK_SHIFT = 4;
+    private static final int BLOCK = 1 << BLOCK_SHIFT;
+
+    private final double[] points;
+    //keys[k] = x точки k * BLOCK; при десериализации строится заново по points
+    private transient double[] keys;
+
+    public InterleavedArrayTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+
+        this.count = xVal.length;
+        this.points = new double[2 * count];
+        for (int i = 0; i < count; i++) {
+            points[2 * i] = xVal[i];
+            points[2 * i + 1] = yVal[i];
+        }
+        this.keys = buildKeys();
+    }
+
+    public InterleavedArrayTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        this.count = count;
+        this.points = new double[2 * count];
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            points[2 * i] = x;
+            points[2 * i + 1] = s.apply(x);
+        }
+        this.keys = buildKeys();
+    }
+
+    private double[] buildKeys() {
+        double[] result = new double[(count + BLOCK - 1) >> BLOCK_SHIFT];
+        for (int k = 0; k < result.length; k++) {
+            result[k] = points[2 * (k << BLOCK_SHIFT)];
+        }
+        return result;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        //count объявлен в несериализуемом AbstractTabulatedFunction и восстанавливается по массиву
+        count = points.length / 2;
+        keys = buildKeys();
+    }
+
+    //Индекс точки с совпадающим x (с допуском EPSILON) или -(insertionPoint + 1), где insertionPoint —
+    //первая точка, у которой x - points < EPSILON. Условие монотонно, поэтому сначала ищем блок по keys
+    @Override
+    protected int searchX(double x) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - keys[mid] >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        //Точка вставки лежит в (BLOCK * (low - 1), BLOCK * low]
+        high = Math.min(low << BLOCK_SHIFT, count);
+        low = Math.max((low - 1) << BLOCK_SHIFT, 0);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - points[2 * mid] >= EPSILON) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low < count && points[2 * low] - x < EPSILON) {
+            return low;
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        //Первый блок, ключ которого больше x; нулевой ключ — левая граница, он не больше x
+        int low = 1;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        //Первая точка из [1, count), у которой x больше заданного, лежит в (BLOCK * (low - 1), BLOCK * low]
+        high = Math.min(low << BLOCK_SHIFT, count);
+        low = Math.max(((low - 1) << BLOCK_SHIFT) + 1, 1);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[2 * mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    @Override
+    protected double xAt(int index) {
+        return points[2 * index];
+    }
+
+    @Override
+    protected double yAt(int index) {
+        return points[2 * index + 1];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        points[2 * index + 1] = value;
+    }
+}
@@ -2,8 +2,12 @@ package functions;
 
 import exception.InterpolationException;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.io.Serializable;
 
 public class LinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
@@ -33,6 +37,57 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         };
     }
 
+    //Выгрузка одним проходом по узлам
+    @Override
+    public TabulatedColumns columns() {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        Node node = head;
+        for (int i = 0; i < count; i++) {
+            x[i] = node.x;
+            y[i] = node.y;
+            node = node.next;
+        }
+        return TabulatedColumns.wrap(x, y, count);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        Node node = head;
+        for (int i = 0; i < count; i++) {
+            action.accept(node.x, node.y);
+            node = node.next;
+        }
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private Node currNode = null;
+            private int visitedCount = 0;
+
+            @Override
+            public boolean next() {
+                if (visitedCount >= count) {
+                    return false;
+                }
+                currNode = currNode == null ? head : currNode.next;
+                visitedCount++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return currNode.x;
+            }
+
+            @Override
+            public double y() {
+                return currNode.y;
+            }
+        };
+    }
+
     private static final long serialVersionUID = 8720509751947980864L;
 
     public static class Node implements Serializable{
@@ -54,6 +109,29 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
     private Node head;
     private int count;
 
+    //Необязательный skip list индекс поверх узлов, см. setIndexed
+    private boolean indexed;
+    private transient NodeSkipIndex skipIndex;
+
+    //"Палец" — последний найденный узел и его индекс. Поиск по индексу и по x начинается
+    //от ближайшей из точек head, head.prev и пальца, поэтому последовательный обход
+    //getX(i)/getY(i) и apply по возрастающим x стоят O(1) амортизированно.
+    //Узел и индекс хранятся в одном неизменяемом объекте, чтобы читатели всегда видели согласованную пару
+    private static final class Finger {
+        final Node node;
+        final int index;
+
+        Finger(Node node, int index) {
+            this.node = node;
+            this.index = index;
+        }
+    }
+
+    //При включённом индексе от пальца идём не дальше этого числа шагов, иначе спускаемся по индексу
+    private static final int FINGER_REACH = 32;
+
+    private transient Finger finger;
+
     //конструктор с массивами значений
     public LinkedListTabulatedFunction(double[] xVal, double[] yVal){
         if (xVal.length < 2) {
@@ -120,24 +198,150 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         count++;
     }
 
+    //Включает или выключает skip list индекс: getNode, floorNodeOfX, indexOfX и insert
+    //начинают работать за O(log n) ценой дополнительной памяти на уровни индекса
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+        this.skipIndex = indexed ? new NodeSkipIndex(head, count) : null;
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (indexed) {
+            skipIndex = new NodeSkipIndex(head, count);
+        }
+    }
+
     private Node getNode(int index){
         if (index < 0 || index >= count){
             throw new IndexOutOfBoundsException("Индекс: " + index + ", Размер: " + count);
         }
+        return seekIndex(index).node;
+    }
+
+    //Повторный поиск того же узла (apply в одном интервале, getX(i) и getY(i) подряд) не создаёт новый палец
+    private Finger remember(Node node, int index) {
+        Finger current = finger;
+        if (current != null && current.node == node && current.index == index) {
+            return current;
+        }
+        Finger found = new Finger(node, index);
+        finger = found;
+        return found;
+    }
+
+    //Поиск узла по индексу от ближайшей из точек: голова, хвост, палец или skip list индекс
+    private Finger seekIndex(int index) {
+        Finger start = finger;
+        if (start != null && start.index == index) {
+            return start;
+        }
+
+        int fromHead = index;
+        int fromTail = count - 1 - index;
+        int fromFinger = start == null ? Integer.MAX_VALUE : Math.abs(index - start.index);
+        int nearest = Math.min(fromFinger, Math.min(fromHead, fromTail));
+
+        Node curr;
+        int i;
+        if (skipIndex != null && nearest > FINGER_REACH) {
+            return remember(skipIndex.nodeAt(head, index), index);
+        } else if (nearest == fromFinger) {
+            curr = start.node;
+            i = start.index;
+        } else if (nearest == fromHead) {
+            curr = head;
+            i = 0;
+        } else {
+            curr = head.prev;
+            i = count - 1;
+        }
+
+        while (i < index) {
+            curr = curr.next;
+            i++;
+        }
+        while (i > index) {
+            curr = curr.prev;
+            i--;
+        }
+        return remember(curr, index);
+    }
 
-        if(index < count / 2){
-            Node curr = head;
-            for(int i = 0; i < index; i++){
-                curr = curr.next;
+    //Последний узел с x <= value (value в границах таблицы) и его индекс
+    private Finger seekFloor(double value) {
+        Finger start = finger;
+        Node tail = head.prev;
+
+        Node curr;
+        int i;
+        int budget = Integer.MAX_VALUE;
+        if (skipIndex != null) {
+            if (start == null) {
+                return seekFloorIndexed(value);
+            }
+            curr = start.node;
+            i = start.index;
+            budget = FINGER_REACH;
+        } else {
+            double fromHead = value - head.x;
+            double fromTail = tail.x - value;
+            double fromFinger = start == null ? Double.POSITIVE_INFINITY : Math.abs(value - start.node.x);
+            if (fromFinger <= fromHead && fromFinger <= fromTail) {
+                curr = start.node;
+                i = start.index;
+            } else if (fromHead <= fromTail) {
+                curr = head;
+                i = 0;
+            } else {
+                curr = tail;
+                i = count - 1;
             }
-            return curr;
-        } else{
-            Node curr = head.prev;
-            for (int i = count - 1; i > index; i--){
+        }
+
+        while (i > 0 && curr.x > value && budget-- > 0) {
+            curr = curr.prev;
+            i--;
+        }
+        while (i + 1 < count && curr.next.x <= value && budget-- > 0) {
+            curr = curr.next;
+            i++;
+        }
+        if (budget < 0) {
+            return seekFloorIndexed(value);
+        }
+        return remember(curr, i);
+    }
+
+    private Finger seekFloorIndexed(double value) {
+        int index = skipIndex.floorIndex(head, value);
+        return remember(skipIndex.nodeAt(head, index), index);
+    }
+
+    //Первый узел, x которого совпадает с value с допуском 1e-10, или null
+    private Finger findX(double value) {
+        if (value < head.x) {
+            return Math.abs(head.x - value) < 1e-10 ? remember(head, 0) : null;
+        }
+
+        Finger floor = seekFloor(Math.min(value, head.prev.x));
+        Node curr = floor.node;
+        int i = floor.index;
+        if (Math.abs(curr.x - value) < 1e-10) {
+            while (i > 0 && Math.abs(curr.prev.x - value) < 1e-10) {
                 curr = curr.prev;
+                i--;
             }
-            return curr;
+            return i == floor.index ? floor : remember(curr, i);
         }
+        if (i + 1 < count && Math.abs(curr.next.x - value) < 1e-10) {
+            return remember(curr.next, i + 1);
+        }
+        return null;
     }
 
     @Override
@@ -152,14 +356,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("x = " + x + " больше левой границы " + count);
         }
 
-        Node curr = head;
-        for(int i = 0; i < count - 1; i++){
-            if(x < curr.next.x){
-                return i;
-            }
-            curr = curr.next;
-        }
-        return count - 1;
+        return seekFloor(x).index;
     }
 
     @Override
@@ -231,14 +428,8 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalStateException("Список пуст, ы");
         }
 
-        Node curr = head;
-        for(int i = 0; i < count; i++){
-            if(Math.abs(curr.x - x) < 1e-10){
-                return i;
-            }
-            curr = curr.next;
-        }
-        return -1;
+        Finger found = findX(x);
+        return found != null ? found.index : -1;
     }
 
     @Override
@@ -285,15 +476,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("x = " + x + " больше левой границы " + head.prev);
         }
 
-        Node curr = head;
-        for(int i = 0; i < count - 1; i++){
-            if(x < curr.next.x){
-                return curr;
-            }
-            curr = curr.next;
-        }
-
-        return head.prev;
+        return seekFloor(x).node;
     }
 
     @Override
@@ -313,52 +496,103 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
     }
 
+    //Те же вычисления, что и в apply. В отсортированном пакете первый узел ищется как в apply
+    //(от пальца, головы, хвоста или по индексу), дальше список идёт вперёд, а на разрыв больше
+    //FINGER_REACH узлов — снова seekFloor. Иначе поиск на каждую точку идёт от пальца
     @Override
-    public void insert(double x, double y) {
-        if (head == null) {
-            addNode(x, y);
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        if (length == 0) {
             return;
         }
 
-        Node curr = head;
-        do {
-            if (Math.abs(curr.x - x) < 1e-10) {
-                curr.y = y;
-                return;
-            }
-            if (x < curr.x) {
-                Node newNode = new Node(x, y);
-
-                Node prevNode = curr.prev;
-                prevNode.next = newNode;
-                newNode.prev = prevNode;
-
-                newNode.next = curr;
-                curr.prev = newNode;
-
-                if (curr == head) {
-                    head = newNode;
+        double left = leftBound();
+        double right = rightBound();
+        boolean sorted = isSortedRange(xs, xsOffset, length);
+        Node floorNode = null;
+        int floorIndex = -1;
+        for (int i = 0; i < length; i++) {
+            double x = xs[xsOffset + i];
+            double value;
+            if (x < left) {
+                value = extrapolateLeft(x);
+            } else if (x > right) {
+                value = extrapolateRight(x);
+            } else {
+                if (sorted && floorNode != null) {
+                    int steps = 0;
+                    while (floorIndex + 1 < count && floorNode.next.x <= x && steps < FINGER_REACH) {
+                        floorNode = floorNode.next;
+                        floorIndex++;
+                        steps++;
+                    }
+                    if (floorIndex + 1 < count && floorNode.next.x <= x) {
+                        remember(floorNode, floorIndex);
+                        Finger found = seekFloor(x);
+                        floorNode = found.node;
+                        floorIndex = found.index;
+                    }
+                } else if (sorted) {
+                    Finger found = seekFloor(x);
+                    floorNode = found.node;
+                    floorIndex = found.index;
+                } else {
+                    floorNode = seekFloor(x).node;
                 }
-
-                count++;
-                return;
+                value = Math.abs(floorNode.x - x) < 1e-10
+                        ? floorNode.y
+                        : interpolate(x, floorNode.x, floorNode.next.x, floorNode.y, floorNode.next.y);
             }
+            out[outOffset + i] = value;
+        }
+        if (floorNode != null && sorted) {
+            remember(floorNode, floorIndex);
+        }
+    }
 
-            curr = curr.next;
-        } while (curr != head);
+    @Override
+    public void insert(double x, double y) {
+        if (head == null) {
+            addNode(x, y);
+            if (skipIndex != null) {
+                skipIndex = new NodeSkipIndex(head, count);
+            }
+            return;
+        }
 
-        Node last = head.prev;
-        Node newNode = new Node(x, y);
+        Finger found = findX(x);
+        if (found != null) {
+            found.node.y = y;
+            return;
+        }
 
-        last.next = newNode;
-        newNode.prev = last;
+        //Вставляем перед первым узлом с x больше заданного
+        int position = 0;
+        Node next = head;
+        if (x >= head.x) {
+            Finger floor = seekFloor(Math.min(x, head.prev.x));
+            position = floor.index + 1;
+            next = floor.node.next;
+        }
 
-        newNode.next = head;
-        head.prev = newNode;
+        Node newNode = new Node(x, y);
+        Node prevNode = next.prev;
+        prevNode.next = newNode;
+        newNode.prev = prevNode;
+        newNode.next = next;
+        next.prev = newNode;
 
+        if (position == 0) {
+            head = newNode;
+        }
         count++;
-    }
 
+        if (skipIndex != null) {
+            skipIndex.onInsert(newNode, position);
+        }
+        remember(newNode, position);
+    }
 
     @Override
     public void remove(int index) {
@@ -371,10 +605,14 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
 
         Node nodeToRemove = getNode(index);
+        if (skipIndex != null) {
+            skipIndex.onRemove(nodeToRemove, index);
+        }
 
         if (count == 1) {
             head = null;
             count--;
+            finger = null;
             return;
         }
 
@@ -388,6 +626,102 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             head = nextNode;
         }
         count--;
+
+        //Палец переходит на узел, занявший позицию удалённого
+        finger = index < count ? new Finger(nextNode, index) : new Finger(prevNode, index - 1);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Диапазон: [" + fromIndex + ", " + toIndex + "), размер: " + count);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (toIndex - fromIndex == count) {
+            clearNodes();
+            return;
+        }
+
+        //Вырезаем цепочку [first, last] целиком, перепривязав её соседей
+        Node first = getNode(fromIndex);
+        Node last = getNode(toIndex - 1);
+        Node prevNode = first.prev;
+        Node nextNode = last.next;
+        prevNode.next = nextNode;
+        nextNode.prev = prevNode;
+
+        if (fromIndex == 0) {
+            head = nextNode;
+        }
+        count -= toIndex - fromIndex;
+        afterBulkRemove();
+        finger = fromIndex < count ? new Finger(nextNode, fromIndex) : new Finger(prevNode, fromIndex - 1);
+    }
+
+    @Override
+    public boolean removeIf(DoubleBiPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+        if (head == null) {
+            return false;
+        }
+
+        //Сначала отмечаем удаляемые узлы: если filter бросит исключение, список не изменится
+        BitSet marked = new BitSet(count);
+        Node curr = head;
+        for (int i = 0; i < count; i++) {
+            if (filter.test(curr.x, curr.y)) {
+                marked.set(i);
+            }
+            curr = curr.next;
+        }
+        if (marked.isEmpty()) {
+            return false;
+        }
+
+        //Второй проход по кольцу: отмеченные узлы отвязываются на месте
+        curr = head;
+        Node newHead = null;
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            Node next = curr.next;
+            if (marked.get(i)) {
+                curr.prev.next = next;
+                next.prev = curr.prev;
+            } else {
+                if (newHead == null) {
+                    newHead = curr;
+                }
+                kept++;
+            }
+            curr = next;
+        }
+
+        if (kept == 0) {
+            clearNodes();
+            return true;
+        }
+        head = newHead;
+        count = kept;
+        afterBulkRemove();
+        return true;
+    }
+
+    private void clearNodes() {
+        head = null;
+        count = 0;
+        afterBulkRemove();
+    }
+
+    //После удаления многих узлов индекс дешевле построить заново за O(n), чем править по одному
+    private void afterBulkRemove() {
+        finger = null;
+        if (skipIndex != null) {
+            skipIndex = new NodeSkipIndex(head, count);
+        }
     }
     public Node getHead(){
         return head;
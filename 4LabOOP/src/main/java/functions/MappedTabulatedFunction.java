@@ -0,0 +1,99 @@
+package functions;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//Табулированная функция поверх файла, отображённого в память через FileChannel.map.
+//Формат файла тот же, что пишет FunctionsIO.writeTabulatedFunction(BufferedOutputStream, ...):
+//int count, затем пары x y (double, big-endian). Данные не копируются в кучу, поэтому открытие
+//мгновенное, а страницы файла разделяются между JVM через page cache.
+//Файл считается корректным: порядок x при открытии не проверяется
+public class MappedTabulatedFunction extends AbstractSortedTabulatedFunction implements AutoCloseable {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final long HEADER_BYTES = Integer.BYTES;
+    private static final long POINT_BYTES = 2L * Double.BYTES;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final boolean writable;
+
+    //Открывает файл только для чтения
+    public MappedTabulatedFunction(Path file) throws IOException {
+        this(file, false);
+    }
+
+    //При writable = true setY записывает значения прямо в файл
+    public MappedTabulatedFunction(Path file, boolean writable) throws IOException {
+        this.writable = writable;
+        this.arena = Arena.ofShared();
+        try (FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Файл пустой");
+            }
+            FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+            this.segment = channel.map(mode, 0, size, arena);
+
+            int storedCount = segment.get(INT, 0);
+            if (storedCount < 2) {
+                throw new IOException("Таблица должна содержать как минимум 2 точки");
+            }
+            if (HEADER_BYTES + storedCount * POINT_BYTES > size) {
+                throw new IOException("Неожиданный конец файла");
+            }
+            this.count = storedCount;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    @Override
+    protected double xAt(int index) {
+        return segment.get(DOUBLE, HEADER_BYTES + index * POINT_BYTES);
+    }
+
+    @Override
+    protected double yAt(int index) {
+        return segment.get(DOUBLE, HEADER_BYTES + index * POINT_BYTES + Double.BYTES);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (!writable) {
+            throw new UnsupportedOperationException("Файл открыт только для чтения");
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        segment.set(DOUBLE, HEADER_BYTES + index * POINT_BYTES + Double.BYTES, value);
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    //Сбрасывает изменения на диск (только для доступного на запись файла)
+    public void force() {
+        if (writable) {
+            segment.force();
+        }
+    }
+
+    //Снимает отображение файла; после этого функцией пользоваться нельзя
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
@@ -1,9 +1,31 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
+import java.util.Objects;
+
 public interface MathFunction {
 
     double apply(double x);
 
+    //Пакетное вычисление: out[i] = apply(xs[i]). out может быть тем же массивом, что и xs
+    default void applyAll(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        applyAll(xs, 0, out, 0, xs.length);
+    }
+
+    //Вычисляет length значений из xs начиная с xsOffset и пишет их в out начиная с outOffset.
+    //Для обработки больших массивов кусками; при xs == out смещения должны совпадать
+    default void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = apply(xs[xsOffset + i]);
+        }
+    }
+
 
     default CompositeFunction andThen(MathFunction afterFunction) {
         return new CompositeFunction(this, afterFunction);
@@ -0,0 +1,182 @@
+package functions;
+
+import functions.LinkedListTabulatedFunction.Node;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+//Индексируемый skip list поверх цепочки узлов LinkedListTabulatedFunction.
+//Сами узлы и их связи не меняются: уровни индекса хранят ссылки на часть узлов и ширину
+//перехода (сколько позиций базового списка он перепрыгивает), поэтому поиск по индексу
+//и по x, вставка и удаление выполняются за O(log n) в среднем.
+//Позиция сентинела каждого уровня равна -1, после последнего узла уровня считается
+//виртуальный конец на позиции count
+final class NodeSkipIndex {
+    private static final int MAX_LEVEL = 30;
+
+    private static final class IndexNode {
+        final Node node;
+        final IndexNode down;
+        IndexNode right;
+        int width;
+
+        IndexNode(Node node, IndexNode down) {
+            this.node = node;
+            this.down = down;
+        }
+    }
+
+    //Сентинел верхнего уровня; сентинелы нижних уровней доступны через down
+    private IndexNode top;
+    private int levels;
+    private int size;
+
+    //Строит индекс за O(n): узел на позиции i получает высоту, равную числу младших нулевых битов i + 1
+    NodeSkipIndex(Node head, int count) {
+        int height = 1;
+        while (height < MAX_LEVEL && (1 << height) <= count) {
+            height++;
+        }
+
+        IndexNode[] last = new IndexNode[height];
+        int[] lastPos = new int[height];
+        IndexNode sentinel = null;
+        for (int level = 0; level < height; level++) {
+            sentinel = new IndexNode(null, sentinel);
+            last[level] = sentinel;
+            lastPos[level] = -1;
+        }
+        this.top = sentinel;
+        this.levels = height;
+        this.size = count;
+
+        Node curr = head;
+        for (int i = 0; i < count; i++) {
+            int nodeHeight = Math.min(Integer.numberOfTrailingZeros(i + 1), height);
+            IndexNode below = null;
+            for (int level = 0; level < nodeHeight; level++) {
+                IndexNode indexNode = new IndexNode(curr, below);
+                last[level].right = indexNode;
+                last[level].width = i - lastPos[level];
+                last[level] = indexNode;
+                lastPos[level] = i;
+                below = indexNode;
+            }
+            curr = curr.next;
+        }
+        for (int level = 0; level < height; level++) {
+            last[level].width = count - lastPos[level];
+        }
+    }
+
+    //Узел с заданным индексом, 0 <= index < count
+    Node nodeAt(Node head, int index) {
+        IndexNode cur = top;
+        int pos = -1;
+        while (true) {
+            while (cur.right != null && pos + cur.width <= index) {
+                pos += cur.width;
+                cur = cur.right;
+            }
+            if (cur.down == null) {
+                break;
+            }
+            cur = cur.down;
+        }
+
+        Node node = pos == -1 ? head : cur.node;
+        for (int i = Math.max(pos, 0); i < index; i++) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    //Индекс последнего узла с x <= value; value должно лежать в границах таблицы
+    int floorIndex(Node head, double value) {
+        IndexNode cur = top;
+        int pos = -1;
+        while (true) {
+            while (cur.right != null && cur.right.node.x <= value) {
+                pos += cur.width;
+                cur = cur.right;
+            }
+            if (cur.down == null) {
+                break;
+            }
+            cur = cur.down;
+        }
+
+        Node node = pos == -1 ? head : cur.node;
+        pos = Math.max(pos, 0);
+        while (pos + 1 < size && node.next.x <= value) {
+            node = node.next;
+            pos++;
+        }
+        return pos;
+    }
+
+    //Вызывается после того, как node вставлен в базовый список на позицию position
+    void onInsert(Node node, int position) {
+        int height = Math.min(Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()), MAX_LEVEL);
+        while (levels < height) {
+            IndexNode sentinel = new IndexNode(null, top);
+            sentinel.width = size + 1;
+            top = sentinel;
+            levels++;
+        }
+
+        IndexNode[] path = new IndexNode[levels];
+        int[] pathPos = new int[levels];
+        IndexNode cur = top;
+        int pos = -1;
+        for (int level = levels - 1; level >= 0; level--) {
+            while (cur.right != null && pos + cur.width < position) {
+                pos += cur.width;
+                cur = cur.right;
+            }
+            path[level] = cur;
+            pathPos[level] = pos;
+            cur = cur.down;
+        }
+
+        IndexNode below = null;
+        for (int level = 0; level < levels; level++) {
+            IndexNode prev = path[level];
+            if (level < height) {
+                IndexNode indexNode = new IndexNode(node, below);
+                indexNode.right = prev.right;
+                indexNode.width = pathPos[level] + prev.width + 1 - position;
+                prev.right = indexNode;
+                prev.width = position - pathPos[level];
+                below = indexNode;
+            } else {
+                prev.width++;
+            }
+        }
+        size++;
+    }
+
+    //Вызывается до того, как node на позиции position удален из базового списка
+    void onRemove(Node node, int position) {
+        IndexNode cur = top;
+        int pos = -1;
+        while (cur != null) {
+            while (cur.right != null && pos + cur.width < position) {
+                pos += cur.width;
+                cur = cur.right;
+            }
+            if (cur.right != null && cur.right.node == node) {
+                cur.width += cur.right.width - 1;
+                cur.right = cur.right.right;
+            } else {
+                cur.width--;
+            }
+            cur = cur.down;
+        }
+
+        size--;
+        while (levels > 1 && top.right == null) {
+            top = top.down;
+            levels--;
+        }
+    }
+}
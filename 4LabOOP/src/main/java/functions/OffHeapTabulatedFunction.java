@@ -0,0 +1,230 @@
+package functions;
+
+import java.lang.foreign.Arena;
+import java.lang.ref.Cleaner;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.BitSet;
+
+//Табулированная функция, хранящая x и y вне кучи в нативном сегменте (Foreign Memory API).
+//Память принадлежит общему Arena и освобождается в close(), после чего функцией пользоваться нельзя.
+//Если close() не вызван (например, функция завёрнута фабрикой в createUnmodifiable), память
+//освобождает Cleaner, когда функция становится недостижимой
+public class OffHeapTabulatedFunction extends AbstractSortedTabulatedFunction implements Insertable, Removable, AutoCloseable {
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    //Текущий Arena; действие Cleaner не должно ссылаться на саму функцию, поэтому он в отдельном объекте
+    private static final class NativeMemory implements Runnable {
+        private Arena arena;
+
+        @Override
+        public synchronized void run() {
+            if (arena != null) {
+                arena.close();
+                arena = null;
+            }
+        }
+
+        synchronized void replace(Arena newArena) {
+            if (arena != null) {
+                arena.close();
+            }
+            arena = newArena;
+        }
+    }
+
+    private final NativeMemory memory = new NativeMemory();
+    private final Cleaner.Cleanable cleanable = CLEANER.register(this, memory);
+    private MemorySegment xSegment;
+    private MemorySegment ySegment;
+    private long capacity;
+
+    public OffHeapTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+
+        allocate(xVal.length);
+        MemorySegment.copy(xVal, 0, xSegment, DOUBLE, 0, xVal.length);
+        MemorySegment.copy(yVal, 0, ySegment, DOUBLE, 0, yVal.length);
+        this.count = xVal.length;
+    }
+
+    public OffHeapTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        allocate(count);
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            xSegment.setAtIndex(DOUBLE, i, x);
+            ySegment.setAtIndex(DOUBLE, i, s.apply(x));
+        }
+        this.count = count;
+    }
+
+    //Выделяет новый сегмент под capacity точек и переносит в него текущие данные, старый сегмент освобождается
+    private void allocate(long newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment block = newArena.allocate(2 * newCapacity * Double.BYTES, Double.BYTES);
+        MemorySegment newX = block.asSlice(0, newCapacity * Double.BYTES);
+        MemorySegment newY = block.asSlice(newCapacity * Double.BYTES, newCapacity * Double.BYTES);
+
+        if (xSegment != null) {
+            MemorySegment.copy(xSegment, 0, newX, 0, count * (long) Double.BYTES);
+            MemorySegment.copy(ySegment, 0, newY, 0, count * (long) Double.BYTES);
+        }
+
+        memory.replace(newArena);
+        this.xSegment = newX;
+        this.ySegment = newY;
+        this.capacity = newCapacity;
+    }
+
+    @Override
+    protected double xAt(int index) {
+        return xSegment.getAtIndex(DOUBLE, index);
+    }
+
+    @Override
+    protected double yAt(int index) {
+        return ySegment.getAtIndex(DOUBLE, index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        ySegment.setAtIndex(DOUBLE, index, value);
+    }
+
+    //После close() точек нет, и границы сообщают об этом, не обращаясь к освобождённой памяти
+    @Override
+    public double leftBound() {
+        if (count == 0) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить левую границу");
+        }
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        if (count == 0) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить правую границу");
+        }
+        return xAt(count - 1);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        int index = searchX(x);
+        if (index >= 0) {
+            ySegment.setAtIndex(DOUBLE, index, y);
+            return;
+        }
+
+        int insertIndex = -index - 1;
+        if (count >= capacity) {
+            allocate(Math.max(2, capacity + (capacity >> 1)));
+        }
+
+        long tailBytes = (count - insertIndex) * (long) Double.BYTES;
+        long from = insertIndex * (long) Double.BYTES;
+        MemorySegment.copy(xSegment, from, xSegment, from + Double.BYTES, tailBytes);
+        MemorySegment.copy(ySegment, from, ySegment, from + Double.BYTES, tailBytes);
+
+        xSegment.setAtIndex(DOUBLE, insertIndex, x);
+        ySegment.setAtIndex(DOUBLE, insertIndex, y);
+        count++;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + count);
+        }
+
+        long tailBytes = (count - index - 1) * (long) Double.BYTES;
+        long to = index * (long) Double.BYTES;
+        MemorySegment.copy(xSegment, to + Double.BYTES, xSegment, to, tailBytes);
+        MemorySegment.copy(ySegment, to + Double.BYTES, ySegment, to, tailBytes);
+        count--;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Диапазон: [" + fromIndex + ", " + toIndex + "), размер: " + count);
+        }
+
+        long tailBytes = (count - toIndex) * (long) Double.BYTES;
+        long to = fromIndex * (long) Double.BYTES;
+        long from = toIndex * (long) Double.BYTES;
+        MemorySegment.copy(xSegment, from, xSegment, to, tailBytes);
+        MemorySegment.copy(ySegment, from, ySegment, to, tailBytes);
+        count -= toIndex - fromIndex;
+    }
+
+    @Override
+    public boolean removeIf(DoubleBiPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+
+        //Сначала отмечаем удаляемые точки: если filter бросит исключение, таблица не изменится
+        BitSet marked = new BitSet(count);
+        for (int i = 0; i < count; i++) {
+            if (filter.test(xAt(i), yAt(i))) {
+                marked.set(i);
+            }
+        }
+        if (marked.isEmpty()) {
+            return false;
+        }
+
+        int kept = marked.nextSetBit(0);
+        for (int i = kept + 1; i < count; i++) {
+            if (!marked.get(i)) {
+                xSegment.setAtIndex(DOUBLE, kept, xAt(i));
+                ySegment.setAtIndex(DOUBLE, kept, yAt(i));
+                kept++;
+            }
+        }
+        count = kept;
+        return true;
+    }
+
+    //Освобождает нативную память; повторный вызов ничего не делает
+    @Override
+    public void close() {
+        cleanable.clean();
+        count = 0;
+    }
+
+    public boolean isClosed() {
+        synchronized (memory) {
+            return memory.arena == null;
+        }
+    }
+
+    //Столбцы копируются из нативных сегментов в кучу: вид не должен зависеть от close() и переразмещения
+    @Override
+    public TabulatedColumns columns() {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        MemorySegment.copy(xSegment, DOUBLE, 0, x, 0, count);
+        MemorySegment.copy(ySegment, DOUBLE, 0, y, 0, count);
+        return TabulatedColumns.wrap(x, y, count);
+    }
+}
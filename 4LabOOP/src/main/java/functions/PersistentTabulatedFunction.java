@@ -0,0 +1,442 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+//Персистентная табулированная функция: точки лежат в неизменяемом AVL-дереве по x, каждый узел
+//хранит размер поддерева, поэтому доступ по индексу — O(log n). withY, withPoint и withoutPoint
+//не меняют таблицу, а возвращают новую версию за O(log n): копируется только путь от корня до
+//изменённого узла, остальные поддеревья общие со старой версией. Версии неизменяемы, и их можно
+//читать из любых потоков. Обычные setY/insert/remove не поддерживаются — у них нет результата
+public final class PersistentTabulatedFunction extends AbstractTabulatedFunction {
+    private static final double EPSILON = 1e-10;
+
+    static final class Node {
+        final double x;
+        final double y;
+        final Node left;
+        final Node right;
+        final int height;
+        final int size;
+
+        Node(double x, double y, Node left, Node right) {
+            this.x = x;
+            this.y = y;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final PersistentTabulatedFunction EMPTY = new PersistentTabulatedFunction((Node) null);
+
+    final Node root;
+
+    private PersistentTabulatedFunction(Node root) {
+        this.root = root;
+    }
+
+    public PersistentTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+        this.root = build(xVal, yVal, 0, xVal.length);
+    }
+
+    //Версия с теми же точками, что у function; идеально сбалансированное дерево строится за O(n)
+    public static PersistentTabulatedFunction from(TabulatedFunction function) {
+        if (function instanceof PersistentTabulatedFunction) {
+            return (PersistentTabulatedFunction) function;
+        }
+        TabulatedColumns columns = function.columns();
+        int size = columns.count();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        columns.copyX(0, x, 0, size);
+        columns.copyY(0, y, 0, size);
+        return new PersistentTabulatedFunction(build(x, y, 0, size));
+    }
+
+    //Таблица без точек, от которой можно строить версии через withPoint
+    public static PersistentTabulatedFunction empty() {
+        return EMPTY;
+    }
+
+    private static Node build(double[] x, double[] y, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(x[mid], y[mid], build(x, y, from, mid), build(x, y, mid + 1, to));
+    }
+
+    public ArrayTabulatedFunction toArrayTabulatedFunction() {
+        TabulatedColumns columns = columns();
+        double[] x = new double[columns.count()];
+        double[] y = new double[columns.count()];
+        columns.copyX(0, x, 0, x.length);
+        columns.copyY(0, y, 0, y.length);
+        return new ArrayTabulatedFunction(x, y);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    //Высота дерева; для проверки балансировки в тестах
+    int height() {
+        return height(root);
+    }
+
+    //Узел с заданными данными и поддеревьями, у которых высоты отличаются не больше чем на 2;
+    //при разнице 2 выполняет один или два поворота
+    private static Node balance(double x, double y, Node left, Node right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.x, left.y, left.left, new Node(x, y, left.right, right));
+            }
+            Node pivot = left.right;
+            return new Node(pivot.x, pivot.y,
+                    new Node(left.x, left.y, left.left, pivot.left),
+                    new Node(x, y, pivot.right, right));
+        }
+        if (diff < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.x, right.y, new Node(x, y, left, right.left), right.right);
+            }
+            Node pivot = right.left;
+            return new Node(pivot.x, pivot.y,
+                    new Node(x, y, left, pivot.left),
+                    new Node(right.x, right.y, pivot.right, right.right));
+        }
+        return new Node(x, y, left, right);
+    }
+
+    private static Node insert(Node node, double x, double y) {
+        if (node == null) {
+            return new Node(x, y, null, null);
+        }
+        //Совпадение с допуском: заменяем y, x остаётся прежним
+        if (Math.abs(x - node.x) < EPSILON) {
+            return new Node(node.x, y, node.left, node.right);
+        }
+        if (x < node.x) {
+            return balance(node.x, node.y, insert(node.left, x, y), node.right);
+        }
+        return balance(node.x, node.y, node.left, insert(node.right, x, y));
+    }
+
+    private static Node setY(Node node, int index, double value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(node.x, node.y, setY(node.left, index, value), node.right);
+        }
+        if (index > leftSize) {
+            return new Node(node.x, node.y, node.left, setY(node.right, index - leftSize - 1, value));
+        }
+        return new Node(node.x, value, node.left, node.right);
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.x, node.y, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.x, node.y, node.left, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        //Узел заменяется самым левым узлом правого поддерева
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.x, successor.y, node.left, remove(node.right, 0));
+    }
+
+    private Node nodeAt(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size(root)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size(root));
+        }
+    }
+
+    public PersistentTabulatedFunction withY(int index, double value) {
+        checkIndex(index);
+        return new PersistentTabulatedFunction(setY(root, index, value));
+    }
+
+    //Новая точка или новое значение y в точке с совпадающим (с допуском 1e-10) x
+    public PersistentTabulatedFunction withPoint(double x, double y) {
+        return new PersistentTabulatedFunction(insert(root, x, y));
+    }
+
+    public PersistentTabulatedFunction withoutPoint(int index) {
+        checkIndex(index);
+        return new PersistentTabulatedFunction(remove(root, index));
+    }
+
+    @Override
+    public int getCount() {
+        return size(root);
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= size(root)) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + size(root));
+        }
+        return nodeAt(index).x;
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return nodeAt(index).y;
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        throw new UnsupportedOperationException("Таблица персистентная, используйте withY");
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        Node node = root;
+        int before = 0;
+        while (node != null) {
+            if (Math.abs(x - node.x) < EPSILON) {
+                return before + size(node.left);
+            }
+            if (x < node.x) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        int index = 0;
+        PointCursor cursor = cursor();
+        while (cursor.next()) {
+            if (Math.abs(cursor.y() - y) < EPSILON) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        if (root == null) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить левую границу");
+        }
+        return nodeAt(0).x;
+    }
+
+    @Override
+    public double rightBound() {
+        if (root == null) {
+            throw new IndexOutOfBoundsException("Нет точек в функции: невозможно определить правую границу");
+        }
+        return nodeAt(size(root) - 1).x;
+    }
+
+    //Число точек с x <= value минус один
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+        Node node = root;
+        int atMost = 0;
+        while (node != null) {
+            if (node.x <= x) {
+                atMost += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return atMost - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        if (size(root) < 2) throw new IllegalArgumentException();
+        Node first = nodeAt(0);
+        Node second = nodeAt(1);
+        return interpolate(x, first.x, second.x, first.y, second.y);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        if (size(root) < 2) throw new IllegalArgumentException();
+        Node last = nodeAt(size(root) - 1);
+        Node beforeLast = nodeAt(size(root) - 2);
+        return interpolate(x, beforeLast.x, last.x, beforeLast.y, last.y);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= size(root) - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        Node left = nodeAt(floorIndex);
+        Node right = nodeAt(floorIndex + 1);
+        if (x < left.x || x > right.x) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + left.x + ", " + right.x + "]");
+        }
+        return interpolate(x, left.x, right.x, left.y, right.y);
+    }
+
+    //Один спуск находит совпадение или ближайшие узлы слева и справа
+    @Override
+    public double apply(double x) {
+        Node node = root;
+        Node floor = null;
+        Node ceiling = null;
+        while (node != null) {
+            if (Math.abs(x - node.x) < EPSILON) {
+                return node.y;
+            }
+            if (x < node.x) {
+                ceiling = node;
+                node = node.left;
+            } else {
+                floor = node;
+                node = node.right;
+            }
+        }
+        if (floor == null) {
+            return extrapolateLeft(x);
+        }
+        if (ceiling == null) {
+            return extrapolateRight(x);
+        }
+        return interpolate(x, floor.x, ceiling.x, floor.y, ceiling.y);
+    }
+
+    @Override
+    public TabulatedFunction freeze() {
+        return this;
+    }
+
+    @Override
+    public TabulatedColumns columns() {
+        int size = size(root);
+        double[] x = new double[size];
+        double[] y = new double[size];
+        PointCursor cursor = cursor();
+        for (int i = 0; cursor.next(); i++) {
+            x[i] = cursor.x();
+            y[i] = cursor.y();
+        }
+        return TabulatedColumns.wrap(x, y, size);
+    }
+
+    //Симметричный обход со стеком высоты дерева, без рекурсии и без объектов на каждую точку
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private final Node[] stack = new Node[height(root)];
+            private int depth = 0;
+            private Node next = root;
+            private Node current;
+
+            @Override
+            public boolean next() {
+                while (next != null) {
+                    stack[depth++] = next;
+                    next = next.left;
+                }
+                if (depth == 0) {
+                    return false;
+                }
+                current = stack[--depth];
+                next = current.right;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return current.x;
+            }
+
+            @Override
+            public double y() {
+                return current.y;
+            }
+        };
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        PointCursor cursor = cursor();
+        while (cursor.next()) {
+            action.accept(cursor.x(), cursor.y());
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private final PointCursor cursor = cursor();
+            private boolean ready = cursor.next();
+
+            @Override
+            public boolean hasNext() {
+                return ready;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(cursor.x(), cursor.y());
+                ready = cursor.next();
+                return point;
+            }
+        };
+    }
+}
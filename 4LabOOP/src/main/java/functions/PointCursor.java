@@ -0,0 +1,10 @@
+package functions;
+
+//Курсор по точкам таблицы: один объект на весь обход, точки не создаются.
+//next() переходит к следующей точке и возвращает false, когда точки кончились;
+//x() и y() читают текущую точку и действительны только после успешного next()
+public interface PointCursor {
+    boolean next();
+    double x();
+    double y();
+}
@@ -1,5 +1,41 @@
 package functions;
 
+import java.util.BitSet;
+
 public interface Removable {
     void remove(int index);
-}
\ No newline at end of file
+
+    //Удаляет точки с индексами из [fromIndex, toIndex); реализации делают это за один проход
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Диапазон: [" + fromIndex + ", " + toIndex + ")");
+        }
+        //С конца: индексы ещё не удалённых точек не сдвигаются, а лишний toIndex упадёт до первого удаления
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    //Удаляет все точки, для которых filter.test(x, y) истинно; true, если что-то удалено.
+    //Условие сначала проверяется для всех точек, и только потом таблица меняется: если filter
+    //бросит исключение, таблица останется прежней
+    default boolean removeIf(DoubleBiPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+        if (!(this instanceof TabulatedFunction function)) {
+            throw new UnsupportedOperationException("removeIf по умолчанию работает только для табулированных функций");
+        }
+        int count = function.getCount();
+        BitSet marked = new BitSet(count);
+        for (int i = 0; i < count; i++) {
+            if (filter.test(function.getX(i), function.getY(i))) {
+                marked.set(i);
+            }
+        }
+        for (int i = marked.previousSetBit(count - 1); i >= 0; i = marked.previousSetBit(i - 1)) {
+            remove(i);
+        }
+        return !marked.isEmpty();
+    }
+}
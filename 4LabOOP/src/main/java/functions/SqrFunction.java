@@ -1,5 +1,7 @@
 package functions;
 
+import java.util.Objects;
+
 public class SqrFunction implements MathFunction{
 
     @Override
@@ -7,4 +9,14 @@ public class SqrFunction implements MathFunction{
         return Math.pow(x,2);
     }
 
+    @Override
+    public void applyAll(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        //Та же формула, что и в apply, чтобы результаты совпадали побитово
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = Math.pow(xs[xsOffset + i], 2);
+        }
+    }
+
 }
@@ -61,6 +61,27 @@ public class StrictTabulatedFunction implements TabulatedFunction{
         return function.rightBound();
     }
 
+    //Снимок остаётся строгим: без интерполяции между точками
+    @Override
+    public TabulatedFunction freeze() {
+        return new StrictTabulatedFunction(function.freeze());
+    }
+
+    @Override
+    public TabulatedColumns columns() {
+        return function.columns();
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return function.cursor();
+    }
+
     @Override
     public Iterator<Point> iterator(){
         return function.iterator();
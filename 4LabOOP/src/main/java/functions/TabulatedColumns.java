@@ -0,0 +1,65 @@
+package functions;
+
+import java.nio.DoubleBuffer;
+
+//Столбцы x и y таблицы только для чтения. Таблицы на массивах отдают их без копирования,
+//поэтому вид отражает последующие setY и устаревает после вставки, удаления
+//и первой записи после freeze();
+//остальные таблицы выгружают точки в новые массивы одним проходом
+public final class TabulatedColumns {
+    private final DoubleBuffer x;
+    private final DoubleBuffer y;
+    private final int count;
+
+    private TabulatedColumns(double[] x, double[] y, int count) {
+        this.x = DoubleBuffer.wrap(x, 0, count).slice().asReadOnlyBuffer();
+        this.y = DoubleBuffer.wrap(y, 0, count).slice().asReadOnlyBuffer();
+        this.count = count;
+    }
+
+    //Вид над первыми count элементами массивов, без копирования
+    public static TabulatedColumns wrap(double[] x, double[] y, int count) {
+        if (count < 0 || count > x.length || count > y.length) {
+            throw new IndexOutOfBoundsException("Count: " + count + ", длины: " + x.length + " и " + y.length);
+        }
+        return new TabulatedColumns(x, y, count);
+    }
+
+    //Независимая копия, которую не затронут изменения исходной таблицы
+    public TabulatedColumns copy() {
+        double[] xCopy = new double[count];
+        double[] yCopy = new double[count];
+        copyX(0, xCopy, 0, count);
+        copyY(0, yCopy, 0, count);
+        return new TabulatedColumns(xCopy, yCopy, count);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public double x(int index) {
+        return x.get(index);
+    }
+
+    public double y(int index) {
+        return y.get(index);
+    }
+
+    //Буферы с позицией 0 и пределом count; запись в них бросает ReadOnlyBufferException
+    public DoubleBuffer xColumn() {
+        return x.duplicate();
+    }
+
+    public DoubleBuffer yColumn() {
+        return y.duplicate();
+    }
+
+    public void copyX(int from, double[] destination, int destinationOffset, int length) {
+        x.get(from, destination, destinationOffset, length);
+    }
+
+    public void copyY(int from, double[] destination, int destinationOffset, int length) {
+        y.get(from, destination, destinationOffset, length);
+    }
+}
@@ -12,4 +12,58 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     double leftBound();
     double rightBound();
 
+    //Обход точек по порядку без создания Point на каждую точку
+    default void forEachPoint(DoubleBiConsumer action) {
+        int count = getCount();
+        for (int i = 0; i < count; i++) {
+            action.accept(getX(i), getY(i));
+        }
+    }
+
+    //Неизменяемый снимок, который можно читать из других потоков без блокировок.
+    //По умолчанию точки копируются сразу; ArrayTabulatedFunction отдаёт снимку свои массивы
+    //и копирует их только при следующем изменении
+    default TabulatedFunction freeze() {
+        return FrozenTabulatedFunction.copyOf(this);
+    }
+
+    //Столбцы x и y только для чтения; по умолчанию точки выгружаются в новые массивы через cursor()
+    default TabulatedColumns columns() {
+        int count = getCount();
+        double[] x = new double[count];
+        double[] y = new double[count];
+        PointCursor cursor = cursor();
+        for (int i = 0; cursor.next(); i++) {
+            x[i] = cursor.x();
+            y[i] = cursor.y();
+        }
+        return TabulatedColumns.wrap(x, y, count);
+    }
+
+    //Переиспользуемый курсор; удобен там, где тело цикла бросает проверяемые исключения
+    default PointCursor cursor() {
+        return new PointCursor() {
+            private final int count = getCount();
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index + 1 >= count) {
+                    return false;
+                }
+                index++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return getX(index);
+            }
+
+            @Override
+            public double y() {
+                return getY(index);
+            }
+        };
+    }
 }
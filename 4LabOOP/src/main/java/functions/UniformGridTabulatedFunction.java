@@ -0,0 +1,259 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+//Табулированная функция на равномерной сетке: хранятся только xFrom, шаг и массив y,
+//а x-координаты и индексы вычисляются арифметически
+public class UniformGridTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+    private static final long serialVersionUID = 3172610298740391525L;
+    private static final double EPSILON = 1e-10;
+
+    private final double xFrom;
+    private final double step;
+    private final double[] yVal;
+
+    //конструктор с дискретизацией функции, x совпадают с ArrayTabulatedFunction(s, xFrom, xTo, count)
+    public UniformGridTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom == xTo) {
+            throw new IllegalArgumentException("Для равномерной сетки границы должны различаться");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        this.count = count;
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.yVal = new double[count];
+        for (int i = 0; i < count; i++) {
+            yVal[i] = s.apply(xFrom + i * step);
+        }
+    }
+
+    public UniformGridTabulatedFunction(double xFrom, double step, double[] yVal) {
+        if (yVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        if (!(step > 0) || Double.isInfinite(step)) {
+            throw new IllegalArgumentException("Недопустимое значение шага");
+        }
+        this.count = yVal.length;
+        this.xFrom = xFrom;
+        this.step = step;
+        this.yVal = Arrays.copyOf(yVal, count);
+    }
+
+    //конструктор с массивами значений, x должны образовывать равномерную сетку
+    public UniformGridTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+        if (!isUniform(xVal)) {
+            throw new IllegalArgumentException("Значения x не образуют равномерную сетку");
+        }
+        this.count = xVal.length;
+        this.xFrom = xVal[0];
+        this.step = uniformStep(xVal);
+        this.yVal = Arrays.copyOf(yVal, count);
+    }
+
+    //Проверяет, что xVal[i] = xVal[0] + i * step с допуском 1e-10
+    public static boolean isUniform(double[] xVal) {
+        if (xVal == null || xVal.length < 2) {
+            return false;
+        }
+        double step = uniformStep(xVal);
+        if (!(step > 0) || Double.isInfinite(step)) {
+            return false;
+        }
+        for (int i = 0; i < xVal.length; i++) {
+            if (!(Math.abs(xVal[i] - (xVal[0] + i * step)) < EPSILON)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double uniformStep(double[] xVal) {
+        return (xVal[xVal.length - 1] - xVal[0]) / (xVal.length - 1);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        //count объявлен в несериализуемом AbstractTabulatedFunction и восстанавливается по массиву
+        count = yVal.length;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        int index = (int) Math.min(count - 1, Math.floor((x - xFrom) / step));
+        //Поправка на погрешность деления: xFrom + index * step может оказаться по другую сторону от x
+        if (index > 0 && xAt(index) > x) {
+            index--;
+        } else if (index < count - 1 && xAt(index + 1) <= x) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yVal[0], yVal[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yVal[count - 2], yVal[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = xAt(floorIndex);
+        double x2 = xAt(floorIndex + 1);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < xFrom) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int index = indexOfX(x);
+            if (index != -1) {
+                return yVal[index];
+            }
+            int floorIndex = floorIndexOfX(x);
+            return interpolate(x, xAt(floorIndex), xAt(floorIndex + 1), yVal[floorIndex], yVal[floorIndex + 1]);
+        }
+    }
+
+    private double xAt(int index) {
+        return xFrom + index * step;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return yVal[index];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        yVal[index] = value;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        double position = Math.rint((x - xFrom) / step);
+        if (position < 0 || position >= count) {
+            return -1;
+        }
+        int index = (int) position;
+        return Math.abs(xAt(index) - x) < EPSILON ? index : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yVal[i] - y) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    //Столбец y отдаётся без копирования, x вычисляется по сетке
+    @Override
+    public TabulatedColumns columns() {
+        double[] x = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = xAt(i);
+        }
+        return TabulatedColumns.wrap(x, yVal, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(xAt(i), yVal[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
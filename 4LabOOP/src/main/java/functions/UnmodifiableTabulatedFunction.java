@@ -59,6 +59,26 @@ public class UnmodifiableTabulatedFunction implements TabulatedFunction {
     }
 
 
+    @Override
+    public TabulatedFunction freeze() {
+        return tabulatedFunction.freeze();
+    }
+
+    @Override
+    public TabulatedColumns columns() {
+        return tabulatedFunction.columns();
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        tabulatedFunction.forEachPoint(action);
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return tabulatedFunction.cursor();
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
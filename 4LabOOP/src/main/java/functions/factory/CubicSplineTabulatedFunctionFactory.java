@@ -0,0 +1,29 @@
+package functions.factory;
+
+import functions.CubicSplineTabulatedFunction;
+import functions.TabulatedFunction;
+
+//Создаёт кубические сплайны заданного типа; по умолчанию естественный сплайн
+public class CubicSplineTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final CubicSplineTabulatedFunction.Kind kind;
+
+    public CubicSplineTabulatedFunctionFactory() {
+        this(CubicSplineTabulatedFunction.Kind.NATURAL);
+    }
+
+    public CubicSplineTabulatedFunctionFactory(CubicSplineTabulatedFunction.Kind kind) {
+        if (kind == null) {
+            throw new IllegalArgumentException("Тип сплайна не может быть null");
+        }
+        this.kind = kind;
+    }
+
+    public CubicSplineTabulatedFunction.Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new CubicSplineTabulatedFunction(xValues, yValues, kind);
+    }
+}
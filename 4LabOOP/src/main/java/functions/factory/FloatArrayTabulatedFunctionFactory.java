@@ -0,0 +1,12 @@
+package functions.factory;
+
+import functions.FloatArrayTabulatedFunction;
+import functions.TabulatedFunction;
+
+//Значения округляются до float, погрешность описана в FloatArrayTabulatedFunction
+public class FloatArrayTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new FloatArrayTabulatedFunction(xValues, yValues);
+    }
+}
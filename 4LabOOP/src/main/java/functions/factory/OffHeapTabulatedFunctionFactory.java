@@ -0,0 +1,13 @@
+package functions.factory;
+
+import functions.OffHeapTabulatedFunction;
+import functions.TabulatedFunction;
+
+//Созданные функции держат нативную память: её лучше освобождать сразу через close(),
+//иначе (в том числе у обёрток createStrict и createUnmodifiable) её освободит Cleaner после сборки мусора
+public class OffHeapTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new OffHeapTabulatedFunction(xValues, yValues);
+    }
+}
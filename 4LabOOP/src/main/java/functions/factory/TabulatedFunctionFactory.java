@@ -1,9 +1,15 @@
 package functions.factory;
 
+import functions.MathFunction;
 import functions.StrictTabulatedFunction;
 import functions.TabulatedFunction;
 import functions.UnmodifiableTabulatedFunction;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 public interface TabulatedFunctionFactory {
     TabulatedFunction create(double[] xValues, double[] yValues);
 
@@ -33,4 +39,74 @@ public interface TabulatedFunctionFactory {
         return new UnmodifiableTabulatedFunction(strictFunction);
     }
 
+    //Дискретизация source на count равноотстоящих точках, x те же, что в конструкторах
+    //(MathFunction, xFrom, xTo, count); границы можно передавать в любом порядке
+    default TabulatedFunction tabulate(MathFunction source, double xFrom, double xTo, int count) {
+        double[] xValues = tabulationGrid(source, xFrom, xTo, count);
+        double[] yValues = new double[count];
+        source.applyAll(xValues, 0, yValues, 0, count);
+        return create(xValues, yValues);
+    }
+
+    //То же самое, но значения source считаются кусками индексов параллельно в executor
+    //(ForkJoinPool, пул виртуальных потоков и т.п.); каждый кусок пишет в свой диапазон массива y,
+    //поэтому результат совпадает с последовательным побитово. source должна допускать вызовы
+    //из нескольких потоков; исключение из source пробрасывается вызывающему
+    default TabulatedFunction tabulate(MathFunction source, double xFrom, double xTo, int count, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        double[] xValues = tabulationGrid(source, xFrom, xTo, count);
+        double[] yValues = new double[count];
+
+        //Кусков в несколько раз больше потоков, чтобы дорогие и дешёвые участки выровнялись
+        int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int blocks = Math.min(count, 4 * parallelism);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[blocks];
+        for (int block = 0; block < blocks; block++) {
+            int from = (int) ((long) count * block / blocks);
+            int to = (int) ((long) count * (block + 1) / blocks);
+            futures[block] = CompletableFuture.runAsync(
+                    () -> source.applyAll(xValues, from, yValues, from, to - from), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return create(xValues, yValues);
+    }
+
+    private static double[] tabulationGrid(MathFunction source, double xFrom, double xTo, int count) {
+        if (source == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom == xTo) {
+            throw new IllegalArgumentException("Для табулирования границы должны различаться");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        double[] xValues = new double[count];
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xFrom + i * step;
+        }
+        return xValues;
+    }
+
 }
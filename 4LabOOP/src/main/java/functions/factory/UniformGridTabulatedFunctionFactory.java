@@ -0,0 +1,33 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
+
+//Возвращает UniformGridTabulatedFunction, если x образуют равномерную сетку,
+//иначе делегирует создание запасной фабрике
+public class UniformGridTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final TabulatedFunctionFactory fallbackFactory;
+
+    public UniformGridTabulatedFunctionFactory() {
+        this(new ArrayTabulatedFunctionFactory());
+    }
+
+    public UniformGridTabulatedFunctionFactory(TabulatedFunctionFactory fallbackFactory) {
+        if (fallbackFactory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    public TabulatedFunctionFactory getFallbackFactory() {
+        return fallbackFactory;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        if (UniformGridTabulatedFunction.isUniform(xValues)) {
+            return new UniformGridTabulatedFunction(xValues, yValues);
+        }
+        return fallbackFactory.create(xValues, yValues);
+    }
+}
@@ -4,11 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 import functions.ArrayTabulatedFunction;
+import functions.ChebyshevFunction;
+import functions.MappedTabulatedFunction;
 import functions.TabulatedFunction;
-import functions.Point;
+import functions.PointCursor;
 import functions.factory.TabulatedFunctionFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -16,6 +19,11 @@ import java.util.Locale;
 import java.io.*;
 
 public final class FunctionsIO {
+    //Пределы для чтения ряда Чебышёва: счётчики из файла задают размеры массивов, и без пределов
+    //испорченный файл приводит к NegativeArraySizeException или OutOfMemoryError. Это с большим
+    //запасом больше того, что строит ChebyshevCompiler (степени до десятков, куски — тысячи)
+    private static final int MAX_CHEBYSHEV_PIECES = 1 << 20;
+    private static final int MAX_CHEBYSHEV_COEFFICIENTS = 1 << 16;
     private FunctionsIO() {
         throw new UnsupportedOperationException("Не удается создать экземпляр служебного класса");
     }
@@ -25,8 +33,9 @@ public final class FunctionsIO {
 
         printWriter.println(function.getCount());
 
-        for (Point point : function) {
-            printWriter.printf("%f %f\n", point.x, point.y);
+        PointCursor cursor = function.cursor();
+        while (cursor.next()) {
+            printWriter.printf("%f %f\n", cursor.x(), cursor.y());
         }
 
         printWriter.flush();
@@ -37,9 +46,10 @@ public final class FunctionsIO {
 
         dataOutputStream.writeInt(function.getCount());
 
-        for (Point point : function) {
-            dataOutputStream.writeDouble(point.x);
-            dataOutputStream.writeDouble(point.y);
+        PointCursor cursor = function.cursor();
+        while (cursor.next()) {
+            dataOutputStream.writeDouble(cursor.x());
+            dataOutputStream.writeDouble(cursor.y());
         }
 
         dataOutputStream.flush();
@@ -104,6 +114,65 @@ public final class FunctionsIO {
 
         return factory.create(xValues, yValues);
     }
+
+    //Бинарный формат: число кусков, погрешность, границы кусков, затем для каждого куска
+    //число коэффициентов и сами коэффициенты
+    public static void writeChebyshevFunction(BufferedOutputStream outputStream, ChebyshevFunction function) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+
+        int pieces = function.pieceCount();
+        dataOutputStream.writeInt(pieces);
+        dataOutputStream.writeDouble(function.maxError());
+        for (int i = 0; i <= pieces; i++) {
+            dataOutputStream.writeDouble(function.breakpoint(i));
+        }
+        for (int i = 0; i < pieces; i++) {
+            double[] coefficients = function.pieceCoefficients(i);
+            dataOutputStream.writeInt(coefficients.length);
+            for (double c : coefficients) {
+                dataOutputStream.writeDouble(c);
+            }
+        }
+
+        dataOutputStream.flush();
+    }
+
+    public static ChebyshevFunction readChebyshevFunction(BufferedInputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+        int pieces = dataInputStream.readInt();
+        if (pieces < 1 || pieces > MAX_CHEBYSHEV_PIECES) {
+            throw new IOException("Некорректное число кусков: " + pieces);
+        }
+        double maxError = dataInputStream.readDouble();
+        double[] breakpoints = new double[pieces + 1];
+        for (int i = 0; i <= pieces; i++) {
+            breakpoints[i] = dataInputStream.readDouble();
+        }
+        double[][] coefficients = new double[pieces][];
+        for (int i = 0; i < pieces; i++) {
+            int length = dataInputStream.readInt();
+            if (length < 1 || length > MAX_CHEBYSHEV_COEFFICIENTS) {
+                throw new IOException("Некорректное число коэффициентов: " + length);
+            }
+            coefficients[i] = new double[length];
+            for (int j = 0; j < length; j++) {
+                coefficients[i][j] = dataInputStream.readDouble();
+            }
+        }
+
+        try {
+            return new ChebyshevFunction(breakpoints, coefficients, maxError);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Некорректные данные ряда Чебышёва", e);
+        }
+    }
+
+    //Отображает бинарный файл того же формата в память без чтения в массивы; результат нужно закрыть
+    public static MappedTabulatedFunction mapTabulatedFunction(Path file) throws IOException {
+        return new MappedTabulatedFunction(file);
+    }
+
     public static void serialize(BufferedOutputStream stream, TabulatedFunction function)
             throws IOException {
 
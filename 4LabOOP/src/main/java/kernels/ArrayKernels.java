@@ -0,0 +1,130 @@
+package kernels;
+
+import exception.DifferentLengthOfArraysException;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+//Вычислительные ядра над массивами double: интерполяция по готовым индексам, поэлементная
+//арифметика и взвешенные суммы. Если JVM запущена с --add-modules jdk.incubator.vector,
+//используется реализация на Vector API, иначе обычные циклы. -Dkernels.scalar=true
+//принудительно включает обычные циклы (для сравнения в бенчмарках)
+public final class ArrayKernels {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final DoubleKernels SCALAR = new ScalarDoubleKernels();
+    private static final DoubleKernels IMPL = select();
+    //Размер блока для операций над буферами: три блока помещаются в L1
+    private static final int BUFFER_BLOCK = 1024;
+
+    private ArrayKernels() {
+        throw new UnsupportedOperationException("Не удается создать экземпляр служебного класса");
+    }
+
+    private static DoubleKernels select() {
+        if (Boolean.getBoolean("kernels.scalar") || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+        //Через рефлексию, чтобы класс с импортами jdk.incubator.vector не загружался без модуля
+        try {
+            return (DoubleKernels) Class.forName("kernels.VectorDoubleKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    public static boolean isVectorized() {
+        return IMPL != SCALAR;
+    }
+
+    //out[outOffset + i] = линейная интерполяция в xs[xsOffset + i] по узлам floors[i] и floors[i] + 1
+    public static void lerp(double[] xVal, double[] yVal, int[] floors, double[] xs, int xsOffset,
+                            double[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(0, length, floors.length);
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        IMPL.lerp(xVal, yVal, floors, xs, xsOffset, out, outOffset, length);
+    }
+
+    public static void add(double[] a, double[] b, double[] out) {
+        IMPL.add(a, b, out, checkLengths(a, b, out));
+    }
+
+    public static void subtract(double[] a, double[] b, double[] out) {
+        IMPL.subtract(a, b, out, checkLengths(a, b, out));
+    }
+
+    public static void multiply(double[] a, double[] b, double[] out) {
+        IMPL.multiply(a, b, out, checkLengths(a, b, out));
+    }
+
+    //Бросает ArithmeticException на первом нулевом делителе; точки до него уже записаны в out
+    public static void divide(double[] a, double[] b, double[] out) {
+        IMPL.divide(a, b, out, checkLengths(a, b, out));
+    }
+
+    //Те же операции над столбцами в DoubleBuffer (например, только для чтения из TabulatedColumns).
+    //Индексы абсолютные от 0 до limit, позиция буферов не учитывается и не меняется
+    public static void add(DoubleBuffer a, DoubleBuffer b, double[] out) {
+        blocked(a, b, out, IMPL::add);
+    }
+
+    public static void subtract(DoubleBuffer a, DoubleBuffer b, double[] out) {
+        blocked(a, b, out, IMPL::subtract);
+    }
+
+    public static void multiply(DoubleBuffer a, DoubleBuffer b, double[] out) {
+        blocked(a, b, out, IMPL::multiply);
+    }
+
+    //Бросает ArithmeticException на нулевом делителе; содержимое out при этом не определено
+    public static void divide(DoubleBuffer a, DoubleBuffer b, double[] out) {
+        blocked(a, b, out, IMPL::divide);
+    }
+
+    @FunctionalInterface
+    private interface BlockOperation {
+        void apply(double[] a, double[] b, double[] out, int length);
+    }
+
+    //Буферы читаются блоками в небольшие массивы, над которыми работают обычные ядра:
+    //большие временные массивы не создаются, даже если буфер не даёт доступа к своему массиву
+    private static void blocked(DoubleBuffer a, DoubleBuffer b, double[] out, BlockOperation operation) {
+        if (a.limit() != b.limit() || a.limit() != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        int length = out.length;
+        int block = Math.min(BUFFER_BLOCK, length);
+        double[] left = new double[block];
+        double[] right = new double[block];
+        double[] result = new double[block];
+        for (int from = 0; from < length; from += block) {
+            int size = Math.min(block, length - from);
+            a.get(from, left, 0, size);
+            b.get(from, right, 0, size);
+            operation.apply(left, right, result, size);
+            System.arraycopy(result, 0, out, from, size);
+        }
+    }
+
+    //Сумма values[i] * weights[i]
+    public static double weightedSum(double[] values, double[] weights) {
+        if (values.length != weights.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        return IMPL.weightedSum(values, weights, values.length);
+    }
+
+    //Сумма values[i] по [from, to) с весом evenWeight для чётных i и oddWeight для нечётных
+    //(внутренние слагаемые формулы Симпсона)
+    public static double alternatingSum(double[] values, int from, int to, double evenWeight, double oddWeight) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return IMPL.alternatingSum(values, from, to, evenWeight, oddWeight);
+    }
+
+    private static int checkLengths(double[] a, double[] b, double[] out) {
+        if (a.length != b.length || a.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        return a.length;
+    }
+}
@@ -0,0 +1,19 @@
+package kernels;
+
+//Реализация ядер; ArrayKernels выбирает векторную или скалярную при загрузке
+interface DoubleKernels {
+
+    void lerp(double[] xVal, double[] yVal, int[] floors, double[] xs, int xsOffset, double[] out, int outOffset, int length);
+
+    void add(double[] a, double[] b, double[] out, int length);
+
+    void subtract(double[] a, double[] b, double[] out, int length);
+
+    void multiply(double[] a, double[] b, double[] out, int length);
+
+    void divide(double[] a, double[] b, double[] out, int length);
+
+    double weightedSum(double[] values, double[] weights, int length);
+
+    double alternatingSum(double[] values, int from, int to, double evenWeight, double oddWeight);
+}
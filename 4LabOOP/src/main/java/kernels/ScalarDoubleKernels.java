@@ -0,0 +1,74 @@
+package kernels;
+
+//Обычные циклы; используются, когда модуль jdk.incubator.vector не подключен,
+//и для хвостов, не кратных длине вектора
+final class ScalarDoubleKernels implements DoubleKernels {
+
+    @Override
+    public void lerp(double[] xVal, double[] yVal, int[] floors, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        lerpRange(xVal, yVal, floors, xs, xsOffset, out, outOffset, 0, length);
+    }
+
+    static void lerpRange(double[] xVal, double[] yVal, int[] floors, double[] xs, int xsOffset,
+                          double[] out, int outOffset, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int floor = floors[i];
+            double leftX = xVal[floor];
+            double leftY = yVal[floor];
+            out[outOffset + i] = leftY + (yVal[floor + 1] - leftY) * (xs[xsOffset + i] - leftX) / (xVal[floor + 1] - leftX);
+        }
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] a, double[] b, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] a, double[] b, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(double[] a, double[] b, double[] out, int length) {
+        divideRange(a, b, out, 0, length);
+    }
+
+    static void divideRange(double[] a, double[] b, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] == 0.0) {
+                throw new ArithmeticException("Делить на ноль нельзя, айайай");
+            }
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public double weightedSum(double[] values, double[] weights, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i] * weights[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double alternatingSum(double[] values, int from, int to, double evenWeight, double oddWeight) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i] * ((i & 1) == 0 ? evenWeight : oddWeight);
+        }
+        return sum;
+    }
+}
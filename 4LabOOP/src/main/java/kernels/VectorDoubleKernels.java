@@ -0,0 +1,122 @@
+package kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+//Ядра на jdk.incubator.vector. Поэлементные операции выполняются в том же порядке, что и в
+//ScalarDoubleKernels, и без FMA, поэтому lerp и add/sub/mul/div дают те же биты.
+//Суммы накапливаются по дорожкам, поэтому могут отличаться от скалярных в последних разрядах.
+//Класс загружается только через ArrayKernels и только если модуль подключен
+final class VectorDoubleKernels implements DoubleKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public void lerp(double[] xVal, double[] yVal, int[] floors, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            //Узлы собираются по индексам floors (gather), правые — с базовым смещением 1; x запросов читаются подряд
+            DoubleVector leftX = DoubleVector.fromArray(SPECIES, xVal, 0, floors, i);
+            DoubleVector rightX = DoubleVector.fromArray(SPECIES, xVal, 1, floors, i);
+            DoubleVector leftY = DoubleVector.fromArray(SPECIES, yVal, 0, floors, i);
+            DoubleVector rightY = DoubleVector.fromArray(SPECIES, yVal, 1, floors, i);
+            DoubleVector x = DoubleVector.fromArray(SPECIES, xs, xsOffset + i);
+            rightY.sub(leftY).mul(x.sub(leftX)).div(rightX.sub(leftX)).add(leftY)
+                    .intoArray(out, outOffset + i);
+        }
+        ScalarDoubleKernels.lerpRange(xVal, yVal, floors, xs, xsOffset, out, outOffset, i, length);
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out, int length) {
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).add(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] a, double[] b, double[] out, int length) {
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).sub(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] a, double[] b, double[] out, int length) {
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(double[] a, double[] b, double[] out, int length) {
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            DoubleVector divisor = DoubleVector.fromArray(SPECIES, b, i);
+            if (divisor.eq(0.0).anyTrue()) {
+                //Точки до нулевого делителя должны быть записаны так же, как в скалярном цикле
+                ScalarDoubleKernels.divideRange(a, b, out, i, i + LANES);
+            }
+            DoubleVector.fromArray(SPECIES, a, i).div(divisor).intoArray(out, i);
+        }
+        ScalarDoubleKernels.divideRange(a, b, out, i, length);
+    }
+
+    @Override
+    public double weightedSum(double[] values, double[] weights, int length) {
+        int upper = SPECIES.loopBound(length);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            acc = DoubleVector.fromArray(SPECIES, values, i).mul(DoubleVector.fromArray(SPECIES, weights, i)).add(acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += values[i] * weights[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double alternatingSum(double[] values, int from, int to, double evenWeight, double oddWeight) {
+        //При чётном числе дорожек у каждой дорожки вес один и тот же во всех итерациях
+        if ((LANES & 1) != 0) {
+            return new ScalarDoubleKernels().alternatingSum(values, from, to, evenWeight, oddWeight);
+        }
+        double[] pattern = new double[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            pattern[lane] = ((from + lane) & 1) == 0 ? evenWeight : oddWeight;
+        }
+        DoubleVector weights = DoubleVector.fromArray(SPECIES, pattern, 0);
+
+        int upper = from + SPECIES.loopBound(to - from);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (; i < upper; i += LANES) {
+            acc = DoubleVector.fromArray(SPECIES, values, i).mul(weights).add(acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += values[i] * ((i & 1) == 0 ? evenWeight : oddWeight);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,135 @@
+package operations;
+
+import functions.MathFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+//Адаптивное дробление отрезка [a, b]: значения функции в середине и в четвертных точках сравниваются
+//с хордой по концам; если хоть одно отклонение больше maxError, обе половины дробятся дальше.
+//Одной середины мало: у отрезка с перегибом кубическая часть ошибки в середине равна нулю.
+//Четвертные точки — это середины половин, поэтому при дроблении они не пересчитываются.
+//Результат — точки (x, y) правее a в порядке возрастания x, включая b, кусками double[] с парами x, y
+public class AdaptiveTabulationTask extends RecursiveTask<List<double[]>> {
+    //Новая задача отдаётся в пул, только пока в локальной очереди меньше SURPLUS задач,
+    //иначе дробление продолжается в текущем потоке без накладных расходов на fork
+    private static final int SURPLUS = 3;
+    private static final int INITIAL_BUFFER = 64;
+
+    private final MathFunction func;
+    private final double maxError;
+    private final double minWidth;
+    private final double a, b;
+    private final double fa, fb;
+    //Значение в середине, если его уже посчитал родитель; NaN — посчитать самому
+    private final double fMid;
+
+    //Готовые куски и задачи-потомки в порядке x; куски копируются в таблицу один раз в конце
+    private final List<Object> pieces = new ArrayList<>();
+    private double[] buffer;
+    private int size;
+
+    public AdaptiveTabulationTask(MathFunction func, double maxError, double minWidth,
+                                  double a, double fa, double b, double fb) {
+        this(func, maxError, minWidth, a, fa, b, fb, Double.NaN);
+    }
+
+    private AdaptiveTabulationTask(MathFunction func, double maxError, double minWidth,
+                                   double a, double fa, double b, double fb, double fMid) {
+        this.func = func;
+        this.maxError = maxError;
+        this.minWidth = minWidth;
+        this.a = a;
+        this.fa = fa;
+        this.b = b;
+        this.fb = fb;
+        this.fMid = fMid;
+    }
+
+    @Override
+    protected List<double[]> compute() {
+        buffer = new double[INITIAL_BUFFER];
+        double mid = a + (b - a) / 2;
+        double fm = !Double.isNaN(fMid) || b - a <= minWidth ? fMid : value(mid);
+        refine(a, fa, mid, fm, b, fb);
+        closeBuffer();
+
+        List<double[]> result = new ArrayList<>();
+        for (Object piece : pieces) {
+            if (piece instanceof AdaptiveTabulationTask) {
+                result.addAll(((AdaptiveTabulationTask) piece).join());
+            } else {
+                result.add((double[]) piece);
+            }
+        }
+        return result;
+    }
+
+    //Значение в середине fMid уже посчитано родителем: это четвертная точка его отрезка
+    private void refine(double left, double fLeft, double mid, double fMid, double right, double fRight) {
+        while (true) {
+            if (right - left <= minWidth || mid <= left || mid >= right) {
+                append(right, fRight);
+                return;
+            }
+            double quarter = left + (mid - left) / 2;
+            double threeQuarters = mid + (right - mid) / 2;
+            double fQuarter = value(quarter);
+            double fThreeQuarters = value(threeQuarters);
+            if (withinChord(left, fLeft, right, fRight, mid, fMid)
+                    && withinChord(left, fLeft, right, fRight, quarter, fQuarter)
+                    && withinChord(left, fLeft, right, fRight, threeQuarters, fThreeQuarters)) {
+                append(right, fRight);
+                return;
+            }
+
+            if (getSurplusQueuedTaskCount() < SURPLUS) {
+                AdaptiveTabulationTask child = new AdaptiveTabulationTask(
+                        func, maxError, minWidth, left, fLeft, mid, fMid, fQuarter);
+                child.fork();
+                closeBuffer();
+                pieces.add(child);
+            } else {
+                refine(left, fLeft, quarter, fQuarter, mid, fMid);
+            }
+            //Правая половина обрабатывается в том же цикле, чтобы глубина рекурсии росла только влево
+            left = mid;
+            fLeft = fMid;
+            mid = threeQuarters;
+            fMid = fThreeQuarters;
+        }
+    }
+
+    private boolean withinChord(double left, double fLeft, double right, double fRight, double x, double fx) {
+        double chord = fLeft + (fRight - fLeft) * (x - left) / (right - left);
+        return Math.abs(fx - chord) <= maxError;
+    }
+
+    private double value(double x) {
+        double y = func.apply(x);
+        if (!Double.isFinite(y)) {
+            throw new IllegalArgumentException("Функция не определена в точке x = " + x);
+        }
+        return y;
+    }
+
+    private void append(double x, double y) {
+        if (size + 2 > buffer.length) {
+            double[] grown = new double[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, size);
+            buffer = grown;
+        }
+        buffer[size++] = x;
+        buffer[size++] = y;
+    }
+
+    private void closeBuffer() {
+        if (size > 0) {
+            double[] piece = new double[size];
+            System.arraycopy(buffer, 0, piece, 0, size);
+            pieces.add(piece);
+            size = 0;
+        }
+    }
+}
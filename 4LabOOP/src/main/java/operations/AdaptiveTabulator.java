@@ -0,0 +1,130 @@
+package operations;
+
+import functions.MathFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//Табулирует функцию с заданной погрешностью линейной интерполяции вместо фиксированного числа точек:
+//отрезок сначала делится на initialIntervals равных частей, затем каждая часть дробится пополам,
+//пока отклонение функции от хорды в середине или в четвертных точках больше maxError.
+//На пологих участках точек мало, на крутых — много. Значения считаются параллельно в ForkJoinPool,
+//поэтому функция должна допускать вызовы из нескольких потоков; таблица от пула не зависит.
+//Проверяются только три точки отрезка, поэтому начальная сетка нужна, чтобы не пропустить колебания,
+//которые в этих точках случайно попадают на хорду (например, sin на [0, 4pi])
+public class AdaptiveTabulator {
+    public static final int DEFAULT_INITIAL_INTERVALS = 16;
+    //Отрезки уже этой доли области не дробятся: погрешность на них уже определяется округлением
+    private static final double MIN_RELATIVE_WIDTH = 1e-12;
+    //И не уже нескольких ulp от x: иначе середина совпадает с концом и дробление идёт до упора
+    private static final int MIN_ULPS = 4;
+
+    private final double maxError;
+    private final int initialIntervals;
+    private final TabulatedFunctionFactory factory;
+    private final ForkJoinPool pool;
+
+    public AdaptiveTabulator(double maxError) {
+        this(maxError, DEFAULT_INITIAL_INTERVALS, new ArrayTabulatedFunctionFactory(), ForkJoinPool.commonPool());
+    }
+
+    public AdaptiveTabulator(double maxError, int initialIntervals, TabulatedFunctionFactory factory, ForkJoinPool pool) {
+        if (!(maxError > 0) || Double.isInfinite(maxError)) {
+            throw new IllegalArgumentException("Погрешность должна быть положительной");
+        }
+        if (initialIntervals < 1) {
+            throw new IllegalArgumentException("Нужен хотя бы один начальный отрезок");
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.maxError = maxError;
+        this.initialIntervals = initialIntervals;
+        this.factory = factory;
+        this.pool = pool;
+    }
+
+    public double getMaxError() {
+        return maxError;
+    }
+
+    public TabulatedFunction tabulate(MathFunction func, double xFrom, double xTo) {
+        if (func == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (!(xFrom < xTo) || Double.isInfinite(xFrom) || Double.isInfinite(xTo)) {
+            throw new IllegalArgumentException("Нужен конечный отрезок с xFrom < xTo");
+        }
+
+        //Узлы начальной сетки считаются одним пакетом
+        double[] grid = new double[initialIntervals + 1];
+        double step = (xTo - xFrom) / initialIntervals;
+        for (int i = 0; i < initialIntervals; i++) {
+            grid[i] = xFrom + i * step;
+        }
+        grid[initialIntervals] = xTo;
+        double[] values = new double[grid.length];
+        func.applyAll(grid, values);
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                throw new IllegalArgumentException("Функция не определена в точке x = " + grid[i]);
+            }
+        }
+
+        //Наименьшая ширина отрезка зависит от области: постоянная ширина вдали от нуля меньше ulp x,
+        //а на узкой области останавливает дробление раньше, чем достигается погрешность
+        double minWidth = Math.max((xTo - xFrom) * MIN_RELATIVE_WIDTH,
+                MIN_ULPS * Math.ulp(Math.max(Math.abs(xFrom), Math.abs(xTo))));
+        AdaptiveTabulationTask[] tasks = new AdaptiveTabulationTask[initialIntervals];
+        for (int i = 0; i < initialIntervals; i++) {
+            tasks[i] = new AdaptiveTabulationTask(func, maxError, minWidth,
+                    grid[i], values[i], grid[i + 1], values[i + 1]);
+        }
+        List<double[]> pieces = pool.invoke(new InitialIntervalsTask(tasks));
+
+        int count = 1;
+        for (double[] piece : pieces) {
+            count += piece.length / 2;
+        }
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        xValues[0] = grid[0];
+        yValues[0] = values[0];
+        int index = 1;
+        for (double[] piece : pieces) {
+            for (int i = 0; i < piece.length; i += 2) {
+                xValues[index] = piece[i];
+                yValues[index] = piece[i + 1];
+                index++;
+            }
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    //Запускает дробление начальных отрезков и собирает куски в порядке x
+    private static class InitialIntervalsTask extends RecursiveTask<List<double[]>> {
+        private final AdaptiveTabulationTask[] tasks;
+
+        InitialIntervalsTask(AdaptiveTabulationTask[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected List<double[]> compute() {
+            invokeAll(tasks);
+            List<double[]> pieces = new ArrayList<>();
+            for (AdaptiveTabulationTask task : tasks) {
+                pieces.addAll(task.join());
+            }
+            return pieces;
+        }
+    }
+}
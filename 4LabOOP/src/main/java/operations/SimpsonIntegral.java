@@ -1,6 +1,7 @@
 package operations;
 
 import functions.MathFunction;
+import kernels.ArrayKernels;
 
 import java.util.concurrent.RecursiveTask;
 
@@ -39,13 +40,17 @@ public class SimpsonIntegral extends RecursiveTask<Double> {
 
     private double computeSimpsonSequential(double a, double b, int n) {
         double h = (b - a) / n;
-        double sum = func.apply(a) + func.apply(b);
 
+        //Значения во всех узлах считаются одним пакетом, веса 4 и 2 применяет ядро суммы
+        double[] values = new double[n + 1];
         for (int i = 1; i < n; i++) {
-            double x = a + i * h;
-            sum += (i % 2 == 0) ? 2.0 * func.apply(x) : 4.0 * func.apply(x);
+            values[i] = a + i * h;
         }
+        values[0] = a;
+        values[n] = b;
+        func.applyAll(values, values);
 
+        double sum = values[0] + values[n] + ArrayKernels.alternatingSum(values, 1, n, 2.0, 4.0);
         return sum * h / 3.0;
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package operations;
 
 import concurrent.SynchronizedTabulatedFunction;
 import functions.TabulatedFunction;
-import functions.Point;
+import functions.TabulatedColumns;
 import functions.factory.TabulatedFunctionFactory;
 import functions.factory.ArrayTabulatedFunctionFactory;
 
@@ -32,33 +32,30 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
 
     @Override
     public TabulatedFunction derive(TabulatedFunction function) {
-        Point[] points = TabulatedFunctionOperationService.asPoints(function);
-        int count = points.length;
+        TabulatedColumns columns = function.columns();
+        int count = columns.count();
 
         double[] xValues = new double[count];
         double[] yValues = new double[count];
-
-        for (int i = 0; i < count; i++) {
-            xValues[i] = points[i].x;
-        }
+        columns.copyX(0, xValues, 0, count);
 
         //if (count == 1) {
           //  yValues[0] = 0;
         if (count == 2) {
-            double h = points[1].x - points[0].x;
-            double deriv = (points[1].y - points[0].y) / h;
+            double h = xValues[1] - xValues[0];
+            double deriv = (columns.y(1) - columns.y(0)) / h;
             yValues[0] = deriv;
             yValues[1] = deriv;
         } else {
-            double h = points[1].x - points[0].x;
+            double h = xValues[1] - xValues[0];
 
-            yValues[0] = (-3 * points[0].y + 4 * points[1].y - points[2].y) / (2 * h);
+            yValues[0] = (-3 * columns.y(0) + 4 * columns.y(1) - columns.y(2)) / (2 * h);
 
             for (int i = 1; i < count - 1; i++) {
-                yValues[i] = (points[i + 1].y - points[i - 1].y) / (2 * h);
+                yValues[i] = (columns.y(i + 1) - columns.y(i - 1)) / (2 * h);
             }
 
-            yValues[count - 1] = (3 * points[count - 1].y - 4 * points[count - 2].y + points[count - 3].y) / (2 * h);
+            yValues[count - 1] = (3 * columns.y(count - 1) - 4 * columns.y(count - 2) + columns.y(count - 3)) / (2 * h);
         }
 
         return factory.create(xValues, yValues);
@@ -0,0 +1,323 @@
+package operations;
+
+import functions.PointCursor;
+import functions.TabulatedColumns;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+//Прореживание больших таблиц с сохранением формы; результат создаётся заданной фабрикой.
+//largestTriangleThreeBuckets оставляет ровно targetCount точек и читает таблицу одним проходом
+//через cursor(), держа в памяти только две корзины. ramerDouglasPeucker оставляет наименьший набор
+//точек, по которому линейная интерполяция отличается от исходных y не больше чем на maxError;
+//отрезки обрабатываются параллельно в ForkJoinPool, результат от пула не зависит
+public class TabulatedFunctionDownsamplingService {
+    //Отрезки короче обрабатываются в одном потоке
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+    //Поиск наибольшего отклонения на более длинных отрезках делится между потоками
+    private static final int SCAN_THRESHOLD = 1 << 16;
+
+    private TabulatedFunctionFactory factory;
+    private final ForkJoinPool pool;
+
+    public TabulatedFunctionDownsamplingService() {
+        this(new ArrayTabulatedFunctionFactory(), ForkJoinPool.commonPool());
+    }
+
+    public TabulatedFunctionDownsamplingService(TabulatedFunctionFactory factory, ForkJoinPool pool) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.factory = factory;
+        this.pool = pool;
+    }
+
+    public TabulatedFunctionFactory getFactory() {
+        return factory;
+    }
+
+    public void setFactory(TabulatedFunctionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        this.factory = factory;
+    }
+
+    //Largest-Triangle-Three-Buckets: первая и последняя точки остаются, остальные делятся на
+    //targetCount - 2 корзины, и из каждой берётся точка, образующая наибольший треугольник
+    //с предыдущей выбранной точкой и средним следующей корзины
+    public TabulatedFunction largestTriangleThreeBuckets(TabulatedFunction function, int targetCount) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        if (targetCount < 3) {
+            throw new IllegalArgumentException("Нужно оставить хотя бы 3 точки");
+        }
+        int count = function.getCount();
+        PointCursor cursor = function.cursor();
+        if (targetCount >= count) {
+            return copyAll(cursor, count);
+        }
+
+        double[] xResult = new double[targetCount];
+        double[] yResult = new double[targetCount];
+        cursor.next();
+        xResult[0] = cursor.x();
+        yResult[0] = cursor.y();
+
+        int buckets = targetCount - 2;
+        int capacity = (int) (((long) count - 2 + buckets - 1) / buckets);
+        double[] bucketX = new double[capacity];
+        double[] bucketY = new double[capacity];
+        double[] nextX = new double[capacity];
+        double[] nextY = new double[capacity];
+        int bucketSize = read(cursor, bucketX, bucketY, bucketStart(1, count, buckets) - 1);
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            //Следующая корзина; для последней корзины «следующая» — последняя точка таблицы
+            int nextSize = bucket < buckets - 1
+                    ? read(cursor, nextX, nextY, bucketStart(bucket + 2, count, buckets) - bucketStart(bucket + 1, count, buckets))
+                    : read(cursor, nextX, nextY, 1);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = 0; i < nextSize; i++) {
+                averageX += nextX[i];
+                averageY += nextY[i];
+            }
+            averageX /= nextSize;
+            averageY /= nextSize;
+
+            double ax = xResult[bucket];
+            double ay = yResult[bucket];
+            int best = 0;
+            double bestArea = -1;
+            for (int i = 0; i < bucketSize; i++) {
+                //Удвоенная площадь треугольника; множитель 1/2 на выбор не влияет
+                double area = Math.abs((ax - averageX) * (bucketY[i] - ay) - (ax - bucketX[i]) * (averageY - ay));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            xResult[bucket + 1] = bucketX[best];
+            yResult[bucket + 1] = bucketY[best];
+
+            double[] swap = bucketX;
+            bucketX = nextX;
+            nextX = swap;
+            swap = bucketY;
+            bucketY = nextY;
+            nextY = swap;
+            bucketSize = nextSize;
+        }
+
+        //Корзины кончаются ровно на индексе count - 1, поэтому последним прочитана последняя точка таблицы
+        xResult[targetCount - 1] = bucketX[0];
+        yResult[targetCount - 1] = bucketY[0];
+        return factory.create(xResult, yResult);
+    }
+
+    //Первый индекс корзины bucket; корзина 0 начинается с индекса 1, корзина buckets — с count - 1.
+    //Целочисленно: floor((bucket * (count - 2)) / buckets) в double на границе бывает на единицу меньше
+    private static int bucketStart(int bucket, int count, int buckets) {
+        return 1 + (int) ((long) bucket * (count - 2) / buckets);
+    }
+
+    private static int read(PointCursor cursor, double[] x, double[] y, int length) {
+        for (int i = 0; i < length; i++) {
+            cursor.next();
+            x[i] = cursor.x();
+            y[i] = cursor.y();
+        }
+        return length;
+    }
+
+    private TabulatedFunction copyAll(PointCursor cursor, int count) {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        read(cursor, x, y, count);
+        return factory.create(x, y);
+    }
+
+    //Ramer–Douglas–Peucker по вертикальному отклонению от хорды: именно его видит apply().
+    //Точка с наибольшим отклонением остаётся, если оно больше maxError, и отрезок делится на ней;
+    //при равных отклонениях берётся меньший индекс, поэтому результат не зависит от числа потоков
+    public TabulatedFunction ramerDouglasPeucker(TabulatedFunction function, double maxError) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        if (!(maxError >= 0)) {
+            throw new IllegalArgumentException("Погрешность должна быть неотрицательной");
+        }
+        TabulatedColumns columns = function.columns();
+        int count = columns.count();
+        if (count <= 2) {
+            return copyAll(function.cursor(), count);
+        }
+
+        boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+        pool.invoke(new SimplifyTask(columns, keep, maxError, 0, count - 1));
+
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        double[] x = new double[kept];
+        double[] y = new double[kept];
+        for (int i = 0, j = 0; i < count; i++) {
+            if (keep[i]) {
+                x[j] = columns.x(i);
+                y[j] = columns.y(i);
+                j++;
+            }
+        }
+        return factory.create(x, y);
+    }
+
+    private static double deviation(TabulatedColumns columns, int from, int to, int index) {
+        double x0 = columns.x(from);
+        double y0 = columns.y(from);
+        double chord = y0 + (columns.y(to) - y0) * (columns.x(index) - x0) / (columns.x(to) - x0);
+        return Math.abs(columns.y(index) - chord);
+    }
+
+    //Индекс наибольшего отклонения среди (from, to) на участке [scanFrom, scanTo)
+    private static int farthest(TabulatedColumns columns, int from, int to, int scanFrom, int scanTo) {
+        int best = scanFrom;
+        double bestDeviation = -1;
+        for (int i = scanFrom; i < scanTo; i++) {
+            double d = deviation(columns, from, to, i);
+            if (d > bestDeviation) {
+                bestDeviation = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static class FarthestTask extends RecursiveTask<Integer> {
+        private final TabulatedColumns columns;
+        private final int from, to;
+        private final int scanFrom, scanTo;
+
+        FarthestTask(TabulatedColumns columns, int from, int to, int scanFrom, int scanTo) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.scanFrom = scanFrom;
+            this.scanTo = scanTo;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (scanTo - scanFrom <= SCAN_THRESHOLD) {
+                return farthest(columns, from, to, scanFrom, scanTo);
+            }
+            int mid = (scanFrom + scanTo) >>> 1;
+            FarthestTask left = new FarthestTask(columns, from, to, scanFrom, mid);
+            left.fork();
+            int rightBest = new FarthestTask(columns, from, to, mid, scanTo).compute();
+            int leftBest = left.join();
+            //При равенстве побеждает левая половина, как в последовательном проходе
+            return deviation(columns, from, to, rightBest) > deviation(columns, from, to, leftBest) ? rightBest : leftBest;
+        }
+    }
+
+    private static class SimplifyTask extends RecursiveAction {
+        private final TabulatedColumns columns;
+        private final boolean[] keep;
+        private final double maxError;
+        private final int from, to;
+
+        SimplifyTask(TabulatedColumns columns, boolean[] keep, double maxError, int from, int to) {
+            this.columns = columns;
+            this.keep = keep;
+            this.maxError = maxError;
+            this.from = from;
+            this.to = to;
+        }
+
+        //Отрезок обрабатывается в цикле: короткая половина уходит в simplifySequential, а если обе
+        //половины длинные, меньшая отдаётся в пул, и цикл продолжается с большей. Вложенные join
+        //идут только через меньшие половины, поэтому стек растёт не глубже log2(n) даже на зубчатых данных
+        @Override
+        protected void compute() {
+            List<SimplifyTask> forked = new ArrayList<>();
+            int left = from;
+            int right = to;
+            while (true) {
+                if (right - left <= SEQUENTIAL_THRESHOLD) {
+                    simplifySequential(left, right);
+                    break;
+                }
+                int index = right - left - 1 > SCAN_THRESHOLD
+                        ? new FarthestTask(columns, left, right, left + 1, right).compute()
+                        : farthest(columns, left, right, left + 1, right);
+                if (deviation(columns, left, right, index) <= maxError) {
+                    break;
+                }
+                keep[index] = true;
+                boolean leftIsSmaller = index - left <= right - index;
+                int smallFrom = leftIsSmaller ? left : index;
+                int smallTo = leftIsSmaller ? index : right;
+                if (smallTo - smallFrom <= SEQUENTIAL_THRESHOLD) {
+                    simplifySequential(smallFrom, smallTo);
+                } else {
+                    SimplifyTask task = new SimplifyTask(columns, keep, maxError, smallFrom, smallTo);
+                    task.fork();
+                    forked.add(task);
+                }
+                if (leftIsSmaller) {
+                    left = index;
+                } else {
+                    right = index;
+                }
+            }
+            for (SimplifyTask task : forked) {
+                task.join();
+            }
+        }
+
+        //Явный стек вместо рекурсии: на зубчатых данных глубина деления доходит до длины отрезка
+        private void simplifySequential(int start, int end) {
+            int[] stack = new int[64];
+            int top = 0;
+            stack[top++] = start;
+            stack[top++] = end;
+            while (top > 0) {
+                int right = stack[--top];
+                int left = stack[--top];
+                if (right - left < 2) {
+                    continue;
+                }
+                int index = farthest(columns, left, right, left + 1, right);
+                if (deviation(columns, left, right, index) <= maxError) {
+                    continue;
+                }
+                keep[index] = true;
+                if (top + 4 > stack.length) {
+                    int[] grown = new int[stack.length * 2];
+                    System.arraycopy(stack, 0, grown, 0, top);
+                    stack = grown;
+                }
+                stack[top++] = index;
+                stack[top++] = right;
+                stack[top++] = left;
+                stack[top++] = index;
+            }
+        }
+    }
+}
@@ -1,12 +1,30 @@
 package operations;
 
+import functions.ArrayTabulatedFunction;
+import functions.FrozenTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
 import functions.TabulatedFunction;
 import functions.Point;
-import java.util.Iterator;
+import functions.PointCursor;
+import functions.TabulatedColumns;
 import functions.factory.*;
 import exception.*;
+import kernels.ArrayKernels;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 
 public class TabulatedFunctionOperationService {
+    //Как таблицы с разными x приводятся к общей сетке перед операцией:
+    //STRICT — x обязаны совпадать, UNION — объединение x обеих таблиц, TARGET — заданная сетка.
+    //В UNION и TARGET каждая таблица пересчитывается на сетку своим applyAll, поэтому сплайн остаётся
+    //сплайном, а StrictTabulatedFunction бросает исключение вне узлов. Для таблиц с линейной
+    //интерполяцией это делается одним совместным проходом по столбцам с тем же результатом
+    public enum Alignment {
+        STRICT, UNION, TARGET
+    }
+
+    private static final double EPSILON = 1e-10;
 
     public static Point[] asPoints(TabulatedFunction tabulatedFunction) {
         if (tabulatedFunction == null) {
@@ -16,17 +34,19 @@ public class TabulatedFunctionOperationService {
         int count = tabulatedFunction.getCount();
         Point[] points = new Point[count];
 
+        //Каждая точка создаётся один раз, без промежуточных Point итератора
         int i = 0;
-        Iterator<Point> iterator = tabulatedFunction.iterator();
-        while (iterator.hasNext()) {
-            Point originalPoint = iterator.next();
-            points[i] = new Point(originalPoint.x, originalPoint.y);
+        PointCursor cursor = tabulatedFunction.cursor();
+        while (cursor.next()) {
+            points[i] = new Point(cursor.x(), cursor.y());
             i++;
         }
 
         return points;
     }
     private TabulatedFunctionFactory factory;
+    private Alignment alignment = Alignment.STRICT;
+    private double[] targetGrid;
 
     public TabulatedFunctionOperationService() {
         this.factory = new ArrayTabulatedFunctionFactory();
@@ -51,67 +71,189 @@ public class TabulatedFunctionOperationService {
         this.factory = factory;
     }
 
+    public Alignment getAlignment() {
+        return alignment;
+    }
+
+    public void setAlignment(Alignment alignment) {
+        if (alignment == null) {
+            throw new IllegalArgumentException("Alignment cannot be null");
+        }
+        if (alignment == Alignment.TARGET && targetGrid == null) {
+            throw new IllegalArgumentException("Для TARGET сначала задайте сетку через setTargetGrid");
+        }
+        this.alignment = alignment;
+    }
+
+    public double[] getTargetGrid() {
+        return targetGrid == null ? null : Arrays.copyOf(targetGrid, targetGrid.length);
+    }
+
+    //Задаёт сетку результата и включает режим TARGET
+    public void setTargetGrid(double[] grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Grid cannot be null");
+        }
+        if (grid.length < 2) {
+            throw new IllegalArgumentException("Сетка должна содержать как минимум 2 точки");
+        }
+        for (int i = 1; i < grid.length; i++) {
+            if (!(grid[i] > grid[i - 1])) {
+                throw new ArrayIsNotSortedException("Массив должен возрастать");
+            }
+        }
+        this.targetGrid = Arrays.copyOf(grid, grid.length);
+        this.alignment = Alignment.TARGET;
+    }
+
+    //Операция над столбцами y целиком: out[i] = a[i] op b[i]
     @FunctionalInterface
-    private interface BiOperation {
-        double apply(double u, double v);
+    private interface ColumnOperation {
+        void apply(DoubleBuffer a, DoubleBuffer b, double[] out);
     }
 
     private TabulatedFunction doOperation(
             TabulatedFunction a,
             TabulatedFunction b,
-            BiOperation operation
+            ColumnOperation operation
     ) {
         if (a == null || b == null) {
             throw new IllegalArgumentException("TabulatedFunction cannot be null");
         }
 
-        int countA = a.getCount();
-        int countB = b.getCount();
+        //Таблицы на массивах отдают столбцы без копирования, остальные выгружают их одним проходом
+        TabulatedColumns columnsA = a.columns();
+        TabulatedColumns columnsB = b.columns();
+        if (alignment != Alignment.STRICT) {
+            double[] grid = alignment == Alignment.UNION
+                    ? unionGrid(columnsA, columnsB)
+                    : Arrays.copyOf(targetGrid, targetGrid.length);
+            double[] yA = new double[grid.length];
+            double[] yB = new double[grid.length];
+            resample(a, columnsA, grid, yA);
+            resample(b, columnsB, grid, yB);
+            //Ядра поэлементные, поэтому результат пишется поверх значений первой таблицы
+            operation.apply(DoubleBuffer.wrap(yA), DoubleBuffer.wrap(yB), yA);
+            return factory.create(grid, yA);
+        }
+
+        int countA = columnsA.count();
+        int countB = columnsB.count();
 
         if (countA != countB) {
             throw new InconsistentFunctionsException(
                     "Размеры не совпадают: "+ countA + " и"+ countB);
         }
-        Point[] pointsA = asPoints(a);
-        Point[] pointsB = asPoints(b);
 
+        for (int i = 0; i < countA; i++) {
+            if (columnsA.x(i) != columnsB.x(i)) {
+                throw new InconsistentFunctionsException(
+                        "X не совпадают!");
+            }
+        }
+
+        //Сама арифметика идёт векторизуемыми проходами по блокам столбцов
         double[] xValues = new double[countA];
+        columnsA.copyX(0, xValues, 0, countA);
         double[] yValues = new double[countA];
+        operation.apply(columnsA.yColumn(), columnsB.yColumn(), yValues);
 
-        for (int i = 0; i < countA; i++) {
-            double xA = pointsA[i].x;
-            double xB = pointsB[i].x;
+        return factory.create(xValues, yValues);
+    }
 
-            if (xA != xB) {
-                throw new InconsistentFunctionsException(
-                        "X не совпадают!");
+    //Объединение x слиянием двух возрастающих столбцов; x ближе EPSILON считаются одним узлом.
+    //Первый проход считает размер, второй заполняет массив точного размера
+    private static double[] unionGrid(TabulatedColumns a, TabulatedColumns b) {
+        double[] grid = null;
+        int size = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            int i = 0;
+            int j = 0;
+            int countA = a.count();
+            int countB = b.count();
+            size = 0;
+            while (i < countA || j < countB) {
+                double x;
+                if (j == countB || (i < countA && a.x(i) < b.x(j) - EPSILON)) {
+                    x = a.x(i++);
+                } else if (i == countA || b.x(j) < a.x(i) - EPSILON) {
+                    x = b.x(j++);
+                } else {
+                    x = Math.min(a.x(i++), b.x(j++));
+                }
+                if (grid != null) {
+                    grid[size] = x;
+                }
+                size++;
+            }
+            if (grid == null) {
+                grid = new double[size];
             }
+        }
+        return grid;
+    }
 
-            xValues[i] = xA;
-            yValues[i] = operation.apply(pointsA[i].y, pointsB[i].y);
+    //Значения таблицы в возрастающих точках grid: то же, что function.applyAll(grid, out)
+    private static void resample(TabulatedFunction function, TabulatedColumns columns, double[] grid, double[] out) {
+        if (interpolatesLinearly(function)) {
+            resampleLinear(columns, grid, out);
+        } else {
+            function.applyAll(grid, out);
         }
+    }
 
-        return factory.create(xValues, yValues);
+    //Таблицы, у которых apply() — узел с допуском EPSILON и линейная интерполяция (и экстраполяция
+    //по крайним отрезкам). Класс сравнивается точно: наследник мог переопределить apply()
+    private static boolean interpolatesLinearly(TabulatedFunction function) {
+        Class<?> type = function.getClass();
+        return type == ArrayTabulatedFunction.class
+                || type == LinkedListTabulatedFunction.class
+                || type == FrozenTabulatedFunction.class;
+    }
+
+    //Линейный пересчёт за один совместный проход по столбцам и возрастающей сетке
+    private static void resampleLinear(TabulatedColumns columns, double[] grid, double[] out) {
+        int count = columns.count();
+        if (count == 1) {
+            Arrays.fill(out, columns.y(0));
+            return;
+        }
+        //floor — последний узел не правее x с учётом допуска; при x левее таблицы остаётся 0
+        int floor = 0;
+        double nextX = columns.x(1);
+        for (int i = 0; i < grid.length; i++) {
+            double x = grid[i];
+            while (floor < count - 1 && nextX - x < EPSILON) {
+                floor++;
+                nextX = floor + 1 < count ? columns.x(floor + 1) : Double.POSITIVE_INFINITY;
+            }
+            double floorX = columns.x(floor);
+            if (Math.abs(x - floorX) < EPSILON) {
+                out[i] = columns.y(floor);
+            } else {
+                int left = Math.min(floor, count - 2);
+                double leftX = columns.x(left);
+                double leftY = columns.y(left);
+                out[i] = leftY + (columns.y(left + 1) - leftY) * (x - leftX) / (columns.x(left + 1) - leftX);
+            }
+        }
     }
+
     public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b) {
-        return doOperation(a, b, (u, v) -> u + v);
+        return doOperation(a, b, ArrayKernels::add);
     }
 
     public TabulatedFunction subtract(TabulatedFunction a, TabulatedFunction b) {
-        return doOperation(a, b, (u, v) -> u - v);
+        return doOperation(a, b, ArrayKernels::subtract);
     }
 
     public TabulatedFunction multiply(TabulatedFunction a, TabulatedFunction b){
-        return doOperation(a, b, (u,v) -> u * v);
+        return doOperation(a, b, ArrayKernels::multiply);
     }
 
     public TabulatedFunction divide(TabulatedFunction a, TabulatedFunction b) {
-        return doOperation(a, b, (u, v) -> {
-            if (v == 0.0) {
-                throw new ArithmeticException("Делить на ноль нельзя, айайай"); // Более точное сообщение можно получить в цикле
-            }
-            return u / v;
-        });
+        //ArrayKernels.divide бросает ArithmeticException на нулевом делителе
+        return doOperation(a, b, ArrayKernels::divide);
     }
 
-}
\ No newline at end of file
+}
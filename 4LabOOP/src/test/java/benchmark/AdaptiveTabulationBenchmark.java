@@ -0,0 +1,79 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.MathFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import operations.AdaptiveTabulator;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+//Сколько точек нужно при одинаковой погрешности: равномерная сетка ArrayTabulatedFunction
+//(наименьшее число точек, найденное двоичным поиском) против AdaptiveTabulator,
+//и время табулирования «дорогой» функции в пуле из одного потока и в общем пуле
+public class AdaptiveTabulationBenchmark {
+    private static final int PROBES = 200_001;
+
+    public static void main(String[] args) {
+        compare("exp(x) [0, 10]", Math::exp, 0, 10);
+        compare("tanh(x / 0.01) [-1, 1]", x -> Math.tanh(x / 0.01), -1, 1);
+        compare("sqrt(x) [1e-6, 1]", Math::sqrt, 1e-6, 1);
+        compare("sin(x) * exp(-x / 5) [0, 30]", x -> Math.sin(x) * Math.exp(-x / 5), 0, 30);
+
+        //Имитация дорогой функции: каждое значение — 2000 шагов итерации
+        MathFunction expensive = x -> {
+            double y = x;
+            for (int i = 0; i < 2000; i++) {
+                y = Math.sin(y) + x;
+            }
+            return y;
+        };
+        ForkJoinPool single = new ForkJoinPool(1);
+        for (ForkJoinPool pool : new ForkJoinPool[]{single, ForkJoinPool.commonPool()}) {
+            AdaptiveTabulator tabulator = new AdaptiveTabulator(1e-6, AdaptiveTabulator.DEFAULT_INITIAL_INTERVALS,
+                    new ArrayTabulatedFunctionFactory(), pool);
+            int[] count = new int[1];
+            double nanos = BenchmarkSupport.measure(1, () -> {
+                count[0] = tabulator.tabulate(expensive, 0, 3).getCount();
+                return count[0];
+            });
+            BenchmarkSupport.report("expensive, parallelism=" + pool.getParallelism(), count[0], nanos);
+        }
+        single.shutdown();
+    }
+
+    private static void compare(String name, MathFunction source, double from, double to) {
+        for (double tolerance : new double[]{1e-4, 1e-6}) {
+            TabulatedFunction adaptive = new AdaptiveTabulator(tolerance).tabulate(source, from, to);
+            double adaptiveError = maxError(source, adaptive, from, to);
+
+            //Равномерной сетке даётся та же фактическая погрешность, что получилась у адаптивной
+            int low = 2;
+            int high = 2;
+            while (maxError(source, new ArrayTabulatedFunction(source, from, to, high), from, to) > adaptiveError) {
+                low = high;
+                high *= 2;
+            }
+            while (low + 1 < high) {
+                int mid = (low + high) >>> 1;
+                if (maxError(source, new ArrayTabulatedFunction(source, from, to, mid), from, to) > adaptiveError) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            System.out.printf(Locale.ROOT, "%-30s eps=%-6.0e error=%-9.2e adaptive=%-7d uniform=%-8d x%.1f%n",
+                    name, tolerance, adaptiveError, adaptive.getCount(), high, (double) high / adaptive.getCount());
+        }
+    }
+
+    private static double maxError(MathFunction source, TabulatedFunction function, double from, double to) {
+        double max = 0;
+        for (int i = 0; i < PROBES; i++) {
+            double x = from + (to - from) * i / (PROBES - 1);
+            max = Math.max(max, Math.abs(source.apply(x) - function.apply(x)));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,46 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import operations.TabulatedFunctionOperationService;
+
+//Сложение таблиц с разными сетками: режим UNION (слияние x и пересчёт каждой таблицы одним проходом)
+//против пересчёта вручную через apply на объединённой сетке, как это делалось до режима выравнивания
+public class AlignmentBenchmark {
+
+    public static void main(String[] args) {
+        TabulatedFunctionOperationService union = new TabulatedFunctionOperationService();
+        union.setAlignment(TabulatedFunctionOperationService.Alignment.UNION);
+        TabulatedFunctionOperationService strict = new TabulatedFunctionOperationService();
+
+        for (int size = 1_000; size <= 100_000; size *= 10) {
+            TabulatedFunction[][] pairs = {
+                    {new ArrayTabulatedFunction(Math::sin, 0, 10, size), new ArrayTabulatedFunction(Math::cos, 0.001, 10.5, size + 7)},
+                    {new LinkedListTabulatedFunction(Math::sin, 0, 10, size), new LinkedListTabulatedFunction(Math::cos, 0.001, 10.5, size + 7)}
+            };
+            for (TabulatedFunction[] pair : pairs) {
+                String name = pair[0].getClass().getSimpleName();
+                double aligned = BenchmarkSupport.measure(1, () -> union.add(pair[0], pair[1]).getCount());
+                BenchmarkSupport.report(name + " UNION add", size, aligned);
+
+                //Объединённая сетка строится заранее и в замер не входит
+                TabulatedFunction grid = union.add(pair[0], pair[1]);
+                double[] x = new double[grid.getCount()];
+                for (int i = 0; i < x.length; i++) {
+                    x[i] = grid.getX(i);
+                }
+                double manual = BenchmarkSupport.measure(1, () -> {
+                    double[] ya = new double[x.length];
+                    double[] yb = new double[x.length];
+                    for (int i = 0; i < x.length; i++) {
+                        ya[i] = pair[0].apply(x[i]);
+                        yb[i] = pair[1].apply(x[i]);
+                    }
+                    return strict.add(new ArrayTabulatedFunction(x, ya), new ArrayTabulatedFunction(x, yb)).getCount();
+                });
+                BenchmarkSupport.report(name + " apply + STRICT add", size, manual);
+            }
+        }
+    }
+}
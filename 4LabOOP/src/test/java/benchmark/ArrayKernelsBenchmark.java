@@ -0,0 +1,80 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import kernels.ArrayKernels;
+
+import java.util.SplittableRandom;
+
+//Ядра ArrayKernels против обычных циклов на массивах от 10^3 до 10^7 точек
+//(верхнюю границу можно поднять первым аргументом, например до 100000000 при -Xmx8g).
+//Запускать с --add-modules jdk.incubator.vector, иначе обе колонки скалярные
+public class ArrayKernelsBenchmark {
+
+    //Векторный код быстр только после компиляции C2, поэтому на маленьких массивах
+    //операция повторяется много раз за раунд; результат — время на один элемент
+    private static double perElement(int size, java.util.function.DoubleSupplier operation) {
+        int repeats = Math.max(1, 20_000_000 / size);
+        return BenchmarkSupport.measure(repeats, operation) / size;
+    }
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        System.out.println("Vector API: " + ArrayKernels.isVectorized());
+
+        for (int size = 1_000; size <= maxSize; size *= 10) {
+            SplittableRandom random = new SplittableRandom(42);
+            double[] a = new double[size];
+            double[] b = new double[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextDouble();
+                b[i] = random.nextDouble() + 1;
+            }
+            double[] out = new double[size];
+            int points = size;
+
+            double kernelAdd = perElement(size, () -> {
+                ArrayKernels.add(a, b, out);
+                return out[points / 2];
+            });
+            BenchmarkSupport.report("ArrayKernels.add", size, kernelAdd);
+            double loopAdd = perElement(size, () -> {
+                for (int i = 0; i < points; i++) {
+                    out[i] = a[i] + b[i];
+                }
+                return out[points / 2];
+            });
+            BenchmarkSupport.report("scalar add", size, loopAdd);
+
+            double kernelDivide = perElement(size, () -> {
+                ArrayKernels.divide(a, b, out);
+                return out[points / 2];
+            });
+            BenchmarkSupport.report("ArrayKernels.divide", size, kernelDivide);
+
+            double kernelSum = perElement(size, () -> ArrayKernels.alternatingSum(a, 1, points, 2.0, 4.0));
+            BenchmarkSupport.report("ArrayKernels.alternatingSum", size, kernelSum);
+            double loopSum = perElement(size, () -> {
+                double sum = 0;
+                for (int i = 1; i < points; i++) {
+                    sum += (i % 2 == 0) ? 2.0 * a[i] : 4.0 * a[i];
+                }
+                return sum;
+            });
+            BenchmarkSupport.report("scalar Simpson sum", size, loopSum);
+
+            //Интерполяция: таблица из size / 4 точек, отсортированные запросы по всей таблице
+            double[] x = BenchmarkSupport.uniformGrid(0.0, 1.0, Math.max(2, size / 4));
+            double[] y = new double[x.length];
+            for (int i = 0; i < x.length; i++) {
+                y[i] = Math.sin(x[i]);
+            }
+            ArrayTabulatedFunction function = new ArrayTabulatedFunction(x, y);
+            double[] queries = BenchmarkSupport.uniformGrid(0.0, 1.0, size);
+            double lerp = perElement(size, () -> {
+                function.applyAll(queries, out);
+                return out[points / 2];
+            });
+            BenchmarkSupport.report("ArrayTabulatedFunction.applyAll (sorted)", size, lerp);
+        }
+    }
+}
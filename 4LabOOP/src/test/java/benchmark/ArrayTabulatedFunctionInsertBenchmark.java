@@ -0,0 +1,39 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//Построение таблицы из n случайных точек: по одной через insert и одной пачкой через insertAll.
+//Результат — время на одну вставленную точку
+public class ArrayTabulatedFunctionInsertBenchmark {
+
+    public static void main(String[] args) {
+        for (int size = 1_000; size <= 1_000_000; size *= 10) {
+            SplittableRandom random = new SplittableRandom(42);
+            double[] xs = new double[size];
+            double[] ys = new double[size];
+            for (int i = 0; i < size; i++) {
+                xs[i] = random.nextDouble(2.0, 1000.0);
+                ys[i] = random.nextDouble();
+            }
+            int points = size;
+
+            double single = BenchmarkSupport.measure(1, () -> {
+                ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+                for (int i = 0; i < points; i++) {
+                    function.insert(xs[i], ys[i]);
+                }
+                return function.getCount();
+            }) / size;
+            BenchmarkSupport.report("ArrayTabulatedFunction.insert", size, single);
+
+            double bulk = BenchmarkSupport.measure(1, () -> {
+                ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+                function.insertAll(xs, ys);
+                return function.getCount();
+            }) / size;
+            BenchmarkSupport.report("ArrayTabulatedFunction.insertAll", size, bulk);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//Сравнение двоичного поиска в ArrayTabulatedFunction.apply с прежним линейным
+//(indexOfX + floorIndexOfX) на таблицах от 10 до 10^7 точек
+public class ArrayTabulatedFunctionSearchBenchmark {
+    private static final int QUERIES = 1 << 12;
+
+    public static void main(String[] args) {
+        for (int size = 10; size <= 10_000_000; size *= 10) {
+            double[] x = BenchmarkSupport.uniformGrid(0.0, 1.0, size);
+            double[] y = new double[size];
+            for (int i = 0; i < size; i++) {
+                y[i] = x[i] * x[i];
+            }
+            ArrayTabulatedFunction function = new ArrayTabulatedFunction(x, y);
+
+            SplittableRandom random = new SplittableRandom(42);
+            double[] queries = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = random.nextDouble();
+            }
+
+            int[] cursor = new int[1];
+            double binary = BenchmarkSupport.measure(QUERIES, () ->
+                    function.apply(queries[cursor[0]++ & (QUERIES - 1)]));
+            BenchmarkSupport.report("ArrayTabulatedFunction.apply (binary)", size, binary);
+
+            //Линейный путь дорог на больших таблицах, поэтому для него берем меньше запросов
+            int linearQueries = Math.max(1, Math.min(QUERIES, 100_000_000 / size));
+            double linear = BenchmarkSupport.measure(linearQueries, () ->
+                    linearApply(x, y, queries[cursor[0]++ & (QUERIES - 1)]));
+            BenchmarkSupport.report("linear indexOfX + floorIndexOfX", size, linear);
+        }
+    }
+
+    //Прежний алгоритм apply для точек внутри таблицы
+    private static double linearApply(double[] x, double[] y, double value) {
+        int count = x.length;
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(x[i] - value) < 1e-10) {
+                return y[i];
+            }
+        }
+        int floor = count - 1;
+        for (int i = 0; i < count - 1; i++) {
+            if (value < x[i + 1]) {
+                floor = i;
+                break;
+            }
+        }
+        return y[floor] + (y[floor + 1] - y[floor]) * (value - x[floor]) / (x[floor + 1] - x[floor]);
+    }
+}
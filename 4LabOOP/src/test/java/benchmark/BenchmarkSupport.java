@@ -0,0 +1,54 @@
+package benchmark;
+
+import java.util.Locale;
+import java.util.function.DoubleSupplier;
+
+//Минимальный JMH-подобный стенд: прогрев, несколько замеров, результат в нс на операцию.
+//Классы бенчмарков запускаются вручную через main и не входят в прогон surefire.
+final class BenchmarkSupport {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+
+    //Сюда складываются результаты, чтобы JIT не выбросил вычисления как мёртвый код
+    private static volatile double sink;
+
+    private BenchmarkSupport() {
+        throw new UnsupportedOperationException("Не удается создать экземпляр служебного класса");
+    }
+
+    //Выполняет operation operationsPerRound раз за раунд и возвращает лучшее время на одну операцию в нс
+    static double measure(int operationsPerRound, DoubleSupplier operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(operationsPerRound, operation);
+        }
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            best = Math.min(best, runRound(operationsPerRound, operation));
+        }
+        return best;
+    }
+
+    private static double runRound(int operationsPerRound, DoubleSupplier operation) {
+        double acc = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operationsPerRound; i++) {
+            acc += operation.getAsDouble();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink = acc;
+        return (double) elapsed / operationsPerRound;
+    }
+
+    static void report(String name, long size, double nanosPerOp) {
+        System.out.printf(Locale.ROOT, "%-45s n=%-11d %12.2f ns/op%n", name, size, nanosPerOp);
+    }
+
+    static double[] uniformGrid(double from, double to, int count) {
+        double[] values = new double[count];
+        double step = (to - from) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+}
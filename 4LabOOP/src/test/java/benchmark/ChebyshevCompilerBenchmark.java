@@ -0,0 +1,72 @@
+package benchmark;
+
+import functions.ChebyshevFunction;
+import functions.CompositeFunction;
+import functions.MathFunction;
+import functions.SqrFunction;
+import operations.ChebyshevCompiler;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+//Цепочки CompositeFunction против их кусочного ряда Чебышёва: время apply, число кусков
+//и коэффициентов, заявленная и фактическая погрешность на случайных точках
+public class ChebyshevCompilerBenchmark {
+    private static final int QUERIES = 100_000;
+
+    public static void main(String[] args) {
+        MathFunction shallow = new CompositeFunction(Math::sin, new CompositeFunction(new SqrFunction(), Math::exp));
+        MathFunction deep = shallow;
+        for (int i = 0; i < 4; i++) {
+            deep = new CompositeFunction(Math::atan, new CompositeFunction(Math::exp, new CompositeFunction(Math::cos, deep)));
+        }
+
+        run("sin(exp(x)^2) [0, 1.5]", shallow, 0, 1.5);
+        run("atan(exp(cos(..))) x4 [0, 1.5]", deep, 0, 1.5);
+    }
+
+    private static void run(String name, MathFunction source, double from, double to) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] xs = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextDouble(from, to);
+        }
+
+        double original = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : xs) {
+                sum += source.apply(x);
+            }
+            return sum;
+        }) / QUERIES;
+        BenchmarkSupport.report(name + " original", QUERIES, original);
+
+        for (int maxDegree : new int[]{16, 32, 64}) {
+            for (double tolerance : new double[]{1e-6, 1e-10, 1e-13}) {
+                report(source, xs, from, to, maxDegree, tolerance);
+            }
+        }
+    }
+
+    private static void report(MathFunction source, double[] xs, double from, double to, int maxDegree, double tolerance) {
+        long start = System.nanoTime();
+        ChebyshevFunction compiled = new ChebyshevCompiler(tolerance, maxDegree).compile(source, from, to);
+        double compileMillis = (System.nanoTime() - start) / 1e6;
+
+        double actual = 0;
+        for (double x : xs) {
+            actual = Math.max(actual, Math.abs(source.apply(x) - compiled.apply(x)));
+        }
+        double apply = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : xs) {
+                sum += compiled.apply(x);
+            }
+            return sum;
+        }) / QUERIES;
+        System.out.printf(Locale.ROOT,
+                "  deg<=%-3d eps=%-6.0e pieces=%-4d coefficients=%-5d reported=%-9.2e actual=%-9.2e compile=%6.2f ms apply=%6.2f ns%n",
+                maxDegree, tolerance, compiled.pieceCount(), compiled.coefficientCount(), compiled.maxError(), actual,
+                compileMillis, apply);
+    }
+}
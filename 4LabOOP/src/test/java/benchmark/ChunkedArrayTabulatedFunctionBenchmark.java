@@ -0,0 +1,56 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.ChunkedArrayTabulatedFunction;
+import functions.Insertable;
+import functions.MathFunction;
+import functions.Removable;
+import functions.TabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//Правки большой таблицы: пары insert + remove в случайных местах и apply для сравнения поиска.
+//ArrayTabulatedFunction сдвигает весь хвост массива, ChunkedArrayTabulatedFunction — только один чанк
+public class ChunkedArrayTabulatedFunctionBenchmark {
+    private static final int EDITS = 2_000;
+
+    public static void main(String[] args) {
+        MathFunction source = Math::sin;
+        for (int size = 10_000; size <= 1_000_000; size *= 10) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, 0, 1000, size);
+            ChunkedArrayTabulatedFunction chunked = new ChunkedArrayTabulatedFunction(source, 0, 1000, size);
+
+            report("ArrayTabulatedFunction", array, size);
+            report("ChunkedArrayTabulatedFunction", chunked, size);
+        }
+    }
+
+    private static void report(String name, TabulatedFunction function, int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] xs = new double[EDITS];
+        for (int i = 0; i < EDITS; i++) {
+            xs[i] = random.nextDouble(0.0, 1000.0);
+        }
+
+        double edit = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : xs) {
+                ((Insertable) function).insert(x, 1.0);
+                int index = function.indexOfX(x);
+                sum += index;
+                ((Removable) function).remove(index);
+            }
+            return sum;
+        }) / EDITS;
+        BenchmarkSupport.report(name + " insert+remove", size, edit);
+
+        double apply = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : xs) {
+                sum += function.apply(x);
+            }
+            return sum;
+        }) / EDITS;
+        BenchmarkSupport.report(name + ".apply", size, apply);
+    }
+}
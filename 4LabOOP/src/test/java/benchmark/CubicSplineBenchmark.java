@@ -0,0 +1,86 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.CubicSplineTabulatedFunction;
+import functions.MathFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+//Сколько точек и байт нужно таблице, чтобы максимальная погрешность не превысила заданную:
+//линейная ArrayTabulatedFunction (x и y — 16 байт на точку) против кубических сплайнов
+//(x, y и производная — 24 байта на точку). Последним столбцом — время apply на найденной таблице
+public class CubicSplineBenchmark {
+    private static final int PROBES = 20_001;
+    private static final int QUERIES = 10_000;
+
+    public static void main(String[] args) {
+        run("SqrFunction [0, 10]", new SqrFunction(), 0, 10);
+        run("sin(x) + 0.3 sin(3x) [0, 20pi]", x -> Math.sin(x) + 0.3 * Math.sin(3 * x), 0, 20 * Math.PI);
+    }
+
+    private static void run(String name, MathFunction source, double from, double to) {
+        System.out.println(name);
+        for (double target : new double[]{1e-3, 1e-5, 1e-7}) {
+            report("linear", target, 16, source, from, to,
+                    count -> new ArrayTabulatedFunction(source, from, to, count));
+            for (CubicSplineTabulatedFunction.Kind kind : CubicSplineTabulatedFunction.Kind.values()) {
+                report(kind.name(), target, 24, source, from, to,
+                        count -> new CubicSplineTabulatedFunction(source, from, to, count, kind));
+            }
+        }
+    }
+
+    private static void report(String name, double target, int bytesPerPoint, MathFunction source,
+                               double from, double to, IntFunction<TabulatedFunction> build) {
+        int count = minimalCount(target, source, from, to, build);
+        TabulatedFunction function = build.apply(count);
+
+        SplittableRandom random = new SplittableRandom(42);
+        double[] xs = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextDouble(from, to);
+        }
+        double apply = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : xs) {
+                sum += function.apply(x);
+            }
+            return sum;
+        }) / QUERIES;
+
+        System.out.printf(Locale.ROOT, "  eps=%-6.0e %-8s points=%-9d bytes=%-10d apply=%6.2f ns%n",
+                target, name, count, (long) count * bytesPerPoint, apply);
+    }
+
+    //Наименьшее число точек с погрешностью не больше target: удвоение, затем двоичный поиск
+    private static int minimalCount(double target, MathFunction source, double from, double to,
+                                    IntFunction<TabulatedFunction> build) {
+        int high = 4;
+        while (maxError(source, build.apply(high), from, to) > target) {
+            high *= 2;
+        }
+        int low = high / 2;
+        while (low + 1 < high) {
+            int mid = (low + high) >>> 1;
+            if (maxError(source, build.apply(mid), from, to) > target) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private static double maxError(MathFunction source, TabulatedFunction function, double from, double to) {
+        double max = 0;
+        for (int i = 0; i < PROBES; i++) {
+            double x = from + (to - from) * i / (PROBES - 1);
+            max = Math.max(max, Math.abs(source.apply(x) - function.apply(x)));
+        }
+        return max;
+    }
+}
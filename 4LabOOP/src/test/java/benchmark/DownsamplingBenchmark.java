@@ -0,0 +1,49 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import operations.TabulatedFunctionDownsamplingService;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+//Время прореживания случайного блуждания: LTTB одним проходом курсора до 2000 точек
+//и RDP с погрешностью в пуле из одного потока и в общем пуле
+public class DownsamplingBenchmark {
+    public static void main(String[] args) {
+        for (int size : new int[]{1_000_000, 10_000_000}) {
+            TabulatedFunction source = randomWalk(size);
+
+            TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService();
+            double lttb = BenchmarkSupport.measure(1, () -> service.largestTriangleThreeBuckets(source, 2000).getCount());
+            BenchmarkSupport.report("LTTB -> 2000", size, lttb);
+
+            ForkJoinPool single = new ForkJoinPool(1);
+            for (ForkJoinPool pool : new ForkJoinPool[]{single, ForkJoinPool.commonPool()}) {
+                TabulatedFunctionDownsamplingService rdpService =
+                        new TabulatedFunctionDownsamplingService(new ArrayTabulatedFunctionFactory(), pool);
+                int[] kept = new int[1];
+                double nanos = BenchmarkSupport.measure(1, () -> {
+                    kept[0] = rdpService.ramerDouglasPeucker(source, 10.0).getCount();
+                    return kept[0];
+                });
+                BenchmarkSupport.report("RDP eps=10, parallelism=" + pool.getParallelism(), size, nanos);
+                System.out.printf(Locale.ROOT, "    kept=%d%n", kept[0]);
+            }
+            single.shutdown();
+        }
+    }
+
+    private static TabulatedFunction randomWalk(int count) {
+        Random random = new Random(1);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 1; i < count; i++) {
+            x[i] = i;
+            y[i] = y[i - 1] + random.nextGaussian();
+        }
+        return new ArrayTabulatedFunction(x, y);
+    }
+}
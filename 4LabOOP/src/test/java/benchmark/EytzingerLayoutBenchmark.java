@@ -0,0 +1,51 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.EytzingerTabulatedFunction;
+import functions.TabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//apply и applyAll на случайных x: двоичный поиск по отсортированному массиву (ArrayTabulatedFunction)
+//против спуска по раскладке Эйтцингера. Размеры от 1M до maxSize (по умолчанию 100M);
+//на 100M обеим таблицам вместе нужно около 4.5 ГБ кучи, например -Xmx6g.
+//Максимальный размер можно уменьшить первым аргументом
+public class EytzingerLayoutBenchmark {
+    private static final int QUERIES = 1 << 20;
+
+    public static void main(String[] args) {
+        long maxSize = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int size = 1_000_000; size <= maxSize; size *= 10) {
+            double[] queries = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = random.nextDouble(0.0, size - 1);
+            }
+
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> x * 0.5, 0, size - 1, size);
+            report("ArrayTabulatedFunction", array, size, queries);
+            EytzingerTabulatedFunction eytzinger = new EytzingerTabulatedFunction(array);
+            array = null;
+            report("EytzingerTabulatedFunction", eytzinger, size, queries);
+        }
+    }
+
+    private static void report(String name, TabulatedFunction function, int size, double[] queries) {
+        double ns = BenchmarkSupport.measure(1, () -> {
+            double sum = 0;
+            for (double x : queries) {
+                sum += function.apply(x);
+            }
+            return sum;
+        }) / queries.length;
+        BenchmarkSupport.report(name + ".apply", size, ns);
+
+        double[] out = new double[queries.length];
+        double batch = BenchmarkSupport.measure(1, () -> {
+            function.applyAll(queries, out);
+            return out[out.length - 1];
+        }) / queries.length;
+        BenchmarkSupport.report(name + ".applyAll", size, batch);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.FloatArrayTabulatedFunction;
+import functions.TabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//FloatArrayTabulatedFunction против ArrayTabulatedFunction: объём хранимых данных и скорость
+//apply на случайных запросах. Выигрыш float заметен, когда double-таблица перестаёт помещаться в кэш
+public class FloatArrayTabulatedFunctionBenchmark {
+    private static final int QUERIES = 1 << 20;
+
+    public static void main(String[] args) {
+        for (int size = 1_000; size <= 10_000_000; size *= 10) {
+            double[] x = BenchmarkSupport.uniformGrid(0.0, 1.0, size);
+            double[] y = new double[size];
+            for (int i = 0; i < size; i++) {
+                y[i] = Math.sin(10 * x[i]);
+            }
+
+            SplittableRandom random = new SplittableRandom(42);
+            double[] queries = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = random.nextDouble();
+            }
+
+            System.out.printf("n=%d: double %d KiB, float %d KiB%n",
+                    size, 2L * size * Double.BYTES / 1024, 2L * size * Float.BYTES / 1024);
+            run("ArrayTabulatedFunction.apply", new ArrayTabulatedFunction(x, y), queries);
+            run("FloatArrayTabulatedFunction.apply", new FloatArrayTabulatedFunction(x, y), queries);
+        }
+    }
+
+    private static void run(String name, TabulatedFunction function, double[] queries) {
+        int[] cursor = new int[1];
+        double nanos = BenchmarkSupport.measure(QUERIES, () ->
+                function.apply(queries[cursor[0]++ & (QUERIES - 1)]));
+        BenchmarkSupport.report(name, function.getCount(), nanos);
+    }
+}
@@ -0,0 +1,39 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.InterleavedArrayTabulatedFunction;
+import functions.TabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//Раздельные массивы x и y против чередующихся [x0, y0, x1, y1, ...]: apply в случайных точках
+//на таблицах от 10^4 точек (160 КиБ, в пределах L2) до 10^7 (160 МиБ, больше L3)
+public class InterleavedLayoutBenchmark {
+    private static final int QUERIES = 1 << 20;
+
+    public static void main(String[] args) {
+        for (int size = 10_000; size <= 10_000_000; size *= 10) {
+            double[] x = BenchmarkSupport.uniformGrid(0.0, 1.0, size);
+            double[] y = new double[size];
+            for (int i = 0; i < size; i++) {
+                y[i] = Math.cos(7 * x[i]);
+            }
+
+            SplittableRandom random = new SplittableRandom(42);
+            double[] queries = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = random.nextDouble();
+            }
+
+            run("ArrayTabulatedFunction.apply", new ArrayTabulatedFunction(x, y), queries);
+            run("InterleavedArrayTabulatedFunction.apply", new InterleavedArrayTabulatedFunction(x, y), queries);
+        }
+    }
+
+    private static void run(String name, TabulatedFunction function, double[] queries) {
+        int[] cursor = new int[1];
+        double nanos = BenchmarkSupport.measure(QUERIES, () ->
+                function.apply(queries[cursor[0]++ & (QUERIES - 1)]));
+        BenchmarkSupport.report(name, function.getCount(), nanos);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import functions.MathFunction;
+import functions.RungeKuttaFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+//Табулирование дорогой функции (RungeKuttaFunction: тысячи шагов на значение) последовательно,
+//в ForkJoinPool.commonPool() и на виртуальных потоках; ускорение ограничено числом ядер
+public class ParallelTabulationBenchmark {
+    public static void main(String[] args) {
+        MathFunction source = new RungeKuttaFunction(Math::cos, 0, 0, 1e-3);
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        System.out.println("Ядер: " + Runtime.getRuntime().availableProcessors());
+
+        for (int count = 1_000; count <= 4_000; count *= 2) {
+            int n = count;
+            BenchmarkSupport.report("serial", n,
+                    BenchmarkSupport.measure(1, () -> factory.tabulate(source, 0, 10, n).getY(n - 1)));
+            BenchmarkSupport.report("ForkJoinPool.commonPool", n,
+                    BenchmarkSupport.measure(1, () -> factory.tabulate(source, 0, 10, n, ForkJoinPool.commonPool()).getY(n - 1)));
+            BenchmarkSupport.report("virtual threads", n,
+                    BenchmarkSupport.measure(1, () -> factory.tabulate(source, 0, 10, n, virtualThreads).getY(n - 1)));
+        }
+        virtualThreads.close();
+    }
+}
@@ -0,0 +1,98 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.MathFunction;
+import functions.PersistentTabulatedFunction;
+
+import java.util.SplittableRandom;
+
+//Версионные правки: каждая правка оставляет прежнюю версию нетронутой.
+//Для ArrayTabulatedFunction это копия таблицы + setY, для PersistentTabulatedFunction — withY/withPoint;
+//отдельно сравнивается apply и преобразования в обе стороны
+public class PersistentTabulatedFunctionBenchmark {
+    private static final int EDITS = 1_000;
+
+    public static void main(String[] args) {
+        MathFunction source = Math::sin;
+        for (int size = 10_000; size <= 1_000_000; size *= 10) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, 0, 1000, size);
+            PersistentTabulatedFunction persistent = PersistentTabulatedFunction.from(array);
+
+            SplittableRandom random = new SplittableRandom(42);
+            int[] indices = new int[EDITS];
+            double[] xs = new double[EDITS];
+            for (int i = 0; i < EDITS; i++) {
+                indices[i] = random.nextInt(size);
+                xs[i] = random.nextDouble(0.0, 1000.0);
+            }
+
+            double copyEdit = BenchmarkSupport.measure(1, () -> {
+                double sum = 0;
+                ArrayTabulatedFunction version = array;
+                for (int index : indices) {
+                    version = new ArrayTabulatedFunction(copyX(version), copyY(version));
+                    version.setY(index, 1.0);
+                    sum += version.getY(index);
+                }
+                return sum;
+            }) / EDITS;
+            BenchmarkSupport.report("Array copy + setY", size, copyEdit);
+
+            double withY = BenchmarkSupport.measure(1, () -> {
+                double sum = 0;
+                PersistentTabulatedFunction version = persistent;
+                for (int index : indices) {
+                    version = version.withY(index, 1.0);
+                    sum += version.getY(index);
+                }
+                return sum;
+            }) / EDITS;
+            BenchmarkSupport.report("Persistent withY", size, withY);
+
+            double withPoint = BenchmarkSupport.measure(1, () -> {
+                PersistentTabulatedFunction version = persistent;
+                for (double x : xs) {
+                    version = version.withPoint(x, 1.0);
+                }
+                return version.getCount();
+            }) / EDITS;
+            BenchmarkSupport.report("Persistent withPoint", size, withPoint);
+
+            double arrayApply = BenchmarkSupport.measure(1, () -> {
+                double sum = 0;
+                for (double x : xs) {
+                    sum += array.apply(x);
+                }
+                return sum;
+            }) / EDITS;
+            BenchmarkSupport.report("Array apply", size, arrayApply);
+
+            double persistentApply = BenchmarkSupport.measure(1, () -> {
+                double sum = 0;
+                for (double x : xs) {
+                    sum += persistent.apply(x);
+                }
+                return sum;
+            }) / EDITS;
+            BenchmarkSupport.report("Persistent apply", size, persistentApply);
+
+            double toArray = BenchmarkSupport.measure(1, () -> persistent.toArrayTabulatedFunction().getCount());
+            BenchmarkSupport.report("Persistent -> Array", size, toArray);
+
+            double fromArray = BenchmarkSupport.measure(1, () -> PersistentTabulatedFunction.from(array).getCount());
+            BenchmarkSupport.report("Array -> Persistent", size, fromArray);
+        }
+    }
+
+    private static double[] copyX(ArrayTabulatedFunction function) {
+        double[] x = new double[function.getCount()];
+        function.columns().copyX(0, x, 0, x.length);
+        return x;
+    }
+
+    private static double[] copyY(ArrayTabulatedFunction function) {
+        double[] y = new double[function.getCount()];
+        function.columns().copyY(0, y, 0, y.length);
+        return y;
+    }
+}
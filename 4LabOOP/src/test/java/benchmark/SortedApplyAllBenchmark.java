@@ -0,0 +1,42 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+
+//Передискретизация таблицы из n точек на сетку из 4n отсортированных запросов:
+//applyAll (совместный проход) против apply на каждую точку. Результат — время на один запрос
+public class SortedApplyAllBenchmark {
+
+    public static void main(String[] args) {
+        for (int size = 1_000; size <= 1_000_000; size *= 10) {
+            double[] x = BenchmarkSupport.uniformGrid(0.0, 1.0, size);
+            double[] y = new double[size];
+            for (int i = 0; i < size; i++) {
+                y[i] = Math.sin(10 * x[i]);
+            }
+            double[] queries = BenchmarkSupport.uniformGrid(0.0, 1.0, 4 * size);
+            double[] out = new double[queries.length];
+
+            run("Array", new ArrayTabulatedFunction(x, y), queries, out);
+            run("LinkedList", new LinkedListTabulatedFunction(x, y), queries, out);
+        }
+    }
+
+    private static void run(String name, TabulatedFunction function, double[] queries, double[] out) {
+        double batch = BenchmarkSupport.measure(1, () -> {
+            function.applyAll(queries, out);
+            return out[out.length / 2];
+        }) / queries.length;
+        BenchmarkSupport.report(name + ".applyAll (sorted)", function.getCount(), batch);
+
+        double single = BenchmarkSupport.measure(1, () -> {
+            double acc = 0;
+            for (double query : queries) {
+                acc += function.apply(query);
+            }
+            return acc;
+        }) / queries.length;
+        BenchmarkSupport.report(name + ".apply per point", function.getCount(), single);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import operations.TabulatedDifferentialOperator;
+import operations.TabulatedFunctionOperationService;
+
+//Сложение таблиц и производная поверх columns(): для ArrayTabulatedFunction столбцы читаются
+//без копирования, LinkedListTabulatedFunction выгружает их одним проходом по узлам.
+//Результат — время на одну точку таблицы
+public class TableArithmeticBenchmark {
+
+    public static void main(String[] args) {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator();
+        for (int size = 10_000; size <= 1_000_000; size *= 10) {
+            TabulatedFunction[][] pairs = {
+                    {new ArrayTabulatedFunction(Math::sin, 0, 10, size), new ArrayTabulatedFunction(Math::cos, 0, 10, size)},
+                    {new LinkedListTabulatedFunction(Math::sin, 0, 10, size), new LinkedListTabulatedFunction(Math::cos, 0, 10, size)}
+            };
+            for (TabulatedFunction[] pair : pairs) {
+                String name = pair[0].getClass().getSimpleName();
+                int points = size;
+                double add = BenchmarkSupport.measure(1, () -> service.add(pair[0], pair[1]).getY(points / 2)) / size;
+                BenchmarkSupport.report(name + " add", size, add);
+                double derive = BenchmarkSupport.measure(1, () -> operator.derive(pair[0]).getY(points / 2)) / size;
+                BenchmarkSupport.report(name + " derive", size, derive);
+            }
+        }
+    }
+}
@@ -349,4 +349,56 @@ class SynchronizedTabulatedFunctionTest {
         assertEquals(5.0, syncFunc.getY(0), 1e-10);
         assertEquals(7.0, syncFunc.getY(1), 1e-10);
     }
+
+    @Test
+    @DisplayName("forEachPoint выполняется под блокировкой обёртки")
+    void testForEachPointUnderLock() throws InterruptedException {
+        SynchronizedTabulatedFunction syncFunc = new SynchronizedTabulatedFunction(
+                new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6}));
+
+        boolean[] blocked = new boolean[1];
+        double[] sum = new double[1];
+        syncFunc.forEachPoint((x, y) -> {
+            if (x == 2) {
+                Thread writer = new Thread(() -> syncFunc.setY(0, 100));
+                writer.start();
+                try {
+                    writer.join(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                blocked[0] = writer.isAlive();
+            }
+            sum[0] += y;
+        });
+
+        assertTrue(blocked[0], "Запись ждёт окончания обхода");
+        assertEquals(15.0, sum[0], 1e-10);
+    }
+
+    @Test
+    @DisplayName("columns и итератор работают со снимком, сделанным под блокировкой")
+    void testColumnsSnapshot() {
+        ArrayTabulatedFunction inner = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+        SynchronizedTabulatedFunction syncFunc = new SynchronizedTabulatedFunction(inner);
+
+        TabulatedColumns columns = syncFunc.columns();
+        Iterator<Point> iterator = syncFunc.iterator();
+        syncFunc.setY(0, 40);
+
+        assertEquals(4.0, columns.y(0), 1e-10);
+        assertEquals(4.0, iterator.next().y, 1e-10);
+        assertEquals(40.0, inner.getY(0), 1e-10);
+
+        //Курсор тоже читает снимок, а не таблицу под отдельными блокировками
+        PointCursor cursor = syncFunc.cursor();
+        syncFunc.setY(1, 50);
+        assertTrue(cursor.next());
+        assertEquals(40.0, cursor.y(), 1e-10);
+        assertTrue(cursor.next());
+        assertEquals(5.0, cursor.y(), 1e-10);
+        assertTrue(cursor.next());
+        assertEquals(3.0, cursor.x(), 1e-10);
+        assertFalse(cursor.next());
+    }
 }
@@ -1228,4 +1228,249 @@ public class ArrayTabulatedFunctionTest {
         }
     }
 
+    @Test
+    @DisplayName("Двоичный поиск: apply, indexOfX и floorIndexOfX на большой таблице совпадают с линейным обходом")
+    void binarySearchMatchesLinearScanOnLargeTable() {
+        int count = 1001;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 0.5 - 100;
+            y[i] = x[i] * x[i];
+        }
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x, y);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, f.indexOfX(x[i]), "Узел должен находиться по своему x");
+            assertEquals(i, f.floorIndexOfX(x[i]), "floorIndexOfX узла равен его индексу");
+            assertEquals(y[i], f.apply(x[i]), 1e-10, "В узле apply возвращает y узла");
+        }
+        for (int i = 0; i < count - 1; i++) {
+            double middle = (x[i] + x[i + 1]) / 2;
+            assertEquals(-1, f.indexOfX(middle), "Середины отрезков нет в таблице");
+            assertEquals(i, f.floorIndexOfX(middle), "floorIndexOfX середины — левый узел отрезка");
+            assertEquals((y[i] + y[i + 1]) / 2, f.apply(middle), 1e-9, "Линейная интерполяция в середине отрезка");
+        }
+    }
+
+    @Test
+    @DisplayName("Двоичный поиск сохраняет допуск 1e-10 по обе стороны от узла")
+    void binarySearchKeepsToleranceOnBothSides() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0},
+                new double[]{10.0, 20.0, 30.0, 40.0, 50.0});
+
+        assertEquals(2, f.indexOfX(3.0 - 5e-11), "Чуть левее узла в пределах допуска");
+        assertEquals(2, f.indexOfX(3.0 + 5e-11), "Чуть правее узла в пределах допуска");
+        assertEquals(30.0, f.apply(3.0 - 5e-11), "apply возвращает y узла без интерполяции");
+        assertEquals(-1, f.indexOfX(3.0 - 1e-9), "За пределами допуска узел не находится");
+        assertEquals(1, f.floorIndexOfX(3.0 - 5e-11), "floorIndexOfX не использует допуск");
+    }
+
+    @Test
+    @DisplayName("insertAll даёт тот же результат, что и последовательные insert")
+    void insertAllMatchesSequentialInserts() {
+        java.util.Random random = new java.util.Random(11);
+        for (int round = 0; round < 50; round++) {
+            ArrayTabulatedFunction sequential = new ArrayTabulatedFunction(x -> x, 0, 20, 21);
+            ArrayTabulatedFunction bulk = new ArrayTabulatedFunction(x -> x, 0, 20, 21);
+
+            int k = random.nextInt(40);
+            double[] xs = new double[k];
+            double[] ys = new double[k];
+            for (int j = 0; j < k; j++) {
+                //Половина x попадает в существующие узлы, встречаются и повторы внутри пачки
+                xs[j] = random.nextBoolean() ? random.nextInt(25) - 2 : random.nextInt(100) / 4.0 - 2;
+                ys[j] = random.nextDouble();
+                sequential.insert(xs[j], ys[j]);
+            }
+            bulk.insertAll(xs, ys);
+
+            assertEquals(sequential.getCount(), bulk.getCount(), "Количество точек совпадает");
+            for (int i = 0; i < sequential.getCount(); i++) {
+                assertEquals(sequential.getX(i), bulk.getX(i), "x совпадает, индекс " + i);
+                assertEquals(sequential.getY(i), bulk.getY(i), "y совпадает, индекс " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("insertAll: совпадение с допуском, проверка длин и пустая пачка")
+    void insertAllEdgeCases() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{10, 20, 30});
+
+        f.insertAll(new double[0], new double[0]);
+        assertEquals(3, f.getCount(), "Пустая пачка ничего не меняет");
+
+        f.insertAll(new double[]{2.0 + 5e-11, 0.5, 2.0 - 5e-11}, new double[]{21, 5, 22});
+        assertEquals(4, f.getCount());
+        assertEquals(2.0, f.getX(2), "x существующего узла сохраняется");
+        assertEquals(22.0, f.getY(2), "Побеждает последнее значение из пачки");
+        assertEquals(0.5, f.leftBound());
+
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> f.insertAll(new double[]{1, 2}, new double[]{1}));
+    }
+
+    @Test
+    @DisplayName("Много вставок и trimToSize сохраняют таблицу")
+    void manyInsertsAndTrimToSize() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        for (int i = 10_000; i >= 2; i--) {
+            f.insert(i, 2.0 * i);
+        }
+        assertEquals(10_001, f.getCount());
+        f.trimToSize();
+        assertEquals(10_001, f.getCount());
+        assertEquals(10_000.0, f.rightBound());
+        assertEquals(5000.0, f.getY(2500), 1e-10);
+        assertEquals(2.0 * 1234.5, f.apply(1234.5), 1e-10);
+
+        f.remove(0);
+        f.trimToSize();
+        f.insert(0.5, 1.0);
+        assertEquals(0.5, f.leftBound(), "После trimToSize вставка снова расширяет массивы");
+        assertEquals(10_001, f.getCount());
+    }
+
+    @Test
+    @DisplayName("removeRange удаляет полуинтервал индексов")
+    void removeRangeRemovesHalfOpenInterval() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> 10 * x, 0, 9, 10);
+
+        f.removeRange(2, 5);
+        assertEquals(7, f.getCount());
+        assertArrayEquals(new double[]{0, 1, 5, 6, 7, 8, 9}, f.getXVal(), 1e-10);
+        assertArrayEquals(new double[]{0, 10, 50, 60, 70, 80, 90}, f.getYVal(), 1e-10);
+
+        f.removeRange(3, 3);
+        assertEquals(7, f.getCount(), "Пустой диапазон ничего не меняет");
+        f.removeRange(5, 7);
+        assertEquals(7.0, f.rightBound(), 1e-10, "Удаление хвоста");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(2, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(3, 2));
+    }
+
+    @Test
+    @DisplayName("removeIf уплотняет таблицу за один проход")
+    void removeIfCompactsTable() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> x * x, -5, 5, 11);
+
+        assertTrue(f.removeIf((x, y) -> y > 10), "Выбросы удалены");
+        assertArrayEquals(new double[]{-3, -2, -1, 0, 1, 2, 3}, f.getXVal(), 1e-10);
+        assertFalse(f.removeIf((x, y) -> y > 10), "Повторно удалять нечего");
+        assertEquals(2.5, f.apply(1.5), 1e-10, "Интерполяция после удаления");
+
+        f.insert(10, 100);
+        assertEquals(8, f.getCount(), "Вставка после уплотнения");
+        assertEquals(100.0, f.getY(7), 1e-10);
+        assertThrows(IllegalArgumentException.class, () -> f.removeIf(null));
+
+        //Условие успело отметить точки и бросило исключение: таблица не меняется
+        assertThrows(IllegalStateException.class, () -> f.removeIf((x, y) -> {
+            if (x > 2) {
+                throw new IllegalStateException();
+            }
+            return x < 0;
+        }));
+        assertArrayEquals(new double[]{-3, -2, -1, 0, 1, 2, 3, 10}, f.getXVal(), 1e-10);
+    }
+
+    @Test
+    @DisplayName("applyAll совпадает с apply внутри таблицы, в узлах и при экстраполяции")
+    void applyAllMatchesApply() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> Math.exp(x), -2, 2, 17);
+        double[] xs = {-3, -2, -1.9, 0, 0.25 - 5e-11, 1.3, 2, 2.5, -0.7};
+        double[] out = new double[xs.length];
+        f.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+        }
+
+        f.applyAll(xs, 0, xs, 0, xs.length);
+        assertArrayEquals(out, xs, "Вычисление на месте");
+    }
+
+    @Test
+    @DisplayName("applyAll по отсортированным запросам (совместный проход) совпадает с apply")
+    void applyAllSortedMatchesApply() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> x * x * x, -3, 3, 25);
+        double[] xs = new double[2001];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -4 + i * 0.004;
+        }
+        //Повторы и точки в пределах допуска от узлов
+        xs[1000] = xs[999];
+        xs[1250] = 1.0 - 5e-11;
+        xs[1251] = 1.0 + 5e-11;
+        java.util.Arrays.sort(xs);
+
+        double[] out = new double[xs.length];
+        f.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+        }
+
+        double[] descending = {2.5, 1.0, -0.5};
+        double[] descendingOut = new double[3];
+        f.applyAll(descending, descendingOut);
+        assertArrayEquals(new double[]{f.apply(2.5), f.apply(1.0), f.apply(-0.5)}, descendingOut,
+                "Неотсортированный пакет вычисляется поиском по каждой точке");
+    }
+
+    @Test
+    @DisplayName("applyAll по редкому отсортированному пакету на большой таблице совпадает с apply")
+    void applyAllSparseSortedBatch() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> Math.sin(x), 0, 1000, 100_001);
+        //Маленький пакет у правого края и пакет с большими разрывами между точками
+        double[][] batches = {
+                {999.99, 999.995},
+                {0.005, 3.3, 3.31, 250.0, 250.0 + 5e-11, 777.777, 999.0, 1000.0},
+        };
+        for (double[] xs : batches) {
+            double[] out = new double[xs.length];
+            f.applyAll(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("forEachPoint и cursor обходят точки по порядку без создания Point")
+    void testPrimitiveTraversal() {
+        int size = 200_000;
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(x -> 2 * x, 0, size - 1, size);
+
+        double[] sums = new double[2];
+        DoubleBiConsumer action = (x, y) -> {
+            sums[0] += x;
+            sums[1] += y;
+        };
+        f.forEachPoint(action);
+        double expectedX = (double) (size - 1) * size / 2;
+        assertEquals(expectedX, sums[0], 1e-3);
+        assertEquals(2 * expectedX, sums[1], 1e-3);
+
+        PointCursor cursor = f.cursor();
+        int index = 0;
+        while (cursor.next()) {
+            assertEquals(f.getX(index), cursor.x());
+            assertEquals(f.getY(index), cursor.y());
+            index++;
+        }
+        assertEquals(size, index);
+        assertFalse(cursor.next(), "Закончившийся курсор остаётся закончившимся");
+
+        //Итератор на таком обходе создал бы size объектов Point (несколько мегабайт)
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        f.forEachPoint(action);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < 100_000, "forEachPoint выделил " + allocated + " байт");
+    }
 }
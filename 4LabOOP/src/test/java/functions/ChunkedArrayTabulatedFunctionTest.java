@@ -0,0 +1,200 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для ChunkedArrayTabulatedFunction")
+class ChunkedArrayTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static void assertSameTable(ArrayTabulatedFunction expected, ChunkedArrayTabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getCount(), actual.size());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), "x[" + i + "]");
+            assertEquals(expected.getY(i), actual.getY(i), "y[" + i + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("Результаты совпадают с ArrayTabulatedFunction")
+    void matchesArrayTabulatedFunction() {
+        MathFunction source = x -> Math.sin(x) + x;
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, -5, 5, 401);
+        ChunkedArrayTabulatedFunction chunked = new ChunkedArrayTabulatedFunction(source, -5, 5, 401, 16);
+
+        assertSameTable(array, chunked);
+        assertTrue(chunked.chunkCount() > 1);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 3000; i++) {
+            double x = random.nextDouble() * 14 - 7;
+            assertEquals(array.apply(x), chunked.apply(x), DELTA, "apply при x = " + x);
+            if (x >= -5 && x <= 5) {
+                assertEquals(array.floorIndexOfX(x), chunked.floorIndexOfX(x));
+            }
+        }
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(i, chunked.indexOfX(array.getX(i) + 5e-11));
+        }
+    }
+
+    @Test
+    @DisplayName("Случайные вставки и удаления с делением и слиянием чанков")
+    void randomEdits() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        ChunkedArrayTabulatedFunction chunked = new ChunkedArrayTabulatedFunction(
+                new double[]{0, 1}, new double[]{0, 1}, 8);
+
+        Random random = new Random(42);
+        for (int step = 0; step < 4000; step++) {
+            if (array.getCount() < 3 || random.nextInt(3) != 0) {
+                double x = Math.floor(random.nextDouble() * 1000) / 10;
+                double y = random.nextDouble();
+                array.insert(x, y);
+                chunked.insert(x, y);
+            } else {
+                int index = random.nextInt(array.getCount());
+                array.remove(index);
+                chunked.remove(index);
+            }
+        }
+        assertSameTable(array, chunked);
+        assertTrue(chunked.chunkCount() > 1);
+        assertTrue(chunked.chunkCount() <= array.getCount() / 2 + 1, "Чанки должны сливаться");
+
+        while (array.getCount() > 2) {
+            int index = random.nextInt(array.getCount());
+            array.remove(index);
+            chunked.remove(index);
+        }
+        assertSameTable(array, chunked);
+        assertEquals(1, chunked.chunkCount());
+    }
+
+    @Test
+    @DisplayName("removeRange и removeIf через несколько чанков")
+    void bulkRemoval() {
+        double[] x = new double[100];
+        double[] y = new double[100];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = i * i;
+        }
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x, y);
+        ChunkedArrayTabulatedFunction chunked = new ChunkedArrayTabulatedFunction(x, y, 8);
+
+        array.removeRange(5, 61);
+        chunked.removeRange(5, 61);
+        assertSameTable(array, chunked);
+
+        assertTrue(chunked.removeIf((px, py) -> ((int) px) % 3 == 0));
+        array.removeIf((px, py) -> ((int) px) % 3 == 0);
+        assertSameTable(array, chunked);
+        assertFalse(chunked.removeIf((px, py) -> px > 1000));
+
+        //Условие бросает исключение уже после отметок в нескольких чанках: таблица не меняется
+        assertThrows(IllegalStateException.class, () -> chunked.removeIf((px, py) -> {
+            if (px > 90) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        assertSameTable(array, chunked);
+
+        chunked.removeRange(0, chunked.getCount());
+        assertEquals(0, chunked.size());
+        assertEquals(1, chunked.chunkCount());
+        chunked.insert(3, 4);
+        chunked.insert(1, 2);
+        assertEquals(1.0, chunked.leftBound(), DELTA);
+        assertEquals(3.0, chunked.rightBound(), DELTA);
+        assertEquals(3.0, chunked.apply(2), DELTA);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> chunked.removeRange(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> chunked.removeIf(null));
+    }
+
+    @Test
+    @DisplayName("Доступ по long-индексам, итератор и проверки аргументов")
+    void accessors() {
+        ChunkedArrayTabulatedFunction f = new ChunkedArrayTabulatedFunction(
+                new double[]{1, 2, 4, 5, 7}, new double[]{5, 6, 8, 9, 11}, 4);
+
+        assertEquals(5L, f.size());
+        assertEquals(4.0, f.getX(2L), DELTA);
+        f.setY(3L, 10);
+        assertEquals(10.0, f.getY(3), DELTA);
+        assertEquals(3L, f.indexOfXAsLong(5.0));
+        assertEquals(-1, f.indexOfX(3.0));
+        assertEquals(2, f.indexOfY(8.0));
+        assertEquals(7.0, f.interpolate(3.0, 1), DELTA);
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(8.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> f.getX(5L));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.getY(-1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.remove(5L));
+
+        Iterator<Point> iterator = f.iterator();
+        double[] expected = {1, 2, 4, 5, 7};
+        for (double value : expected) {
+            assertEquals(value, iterator.next().x, DELTA);
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedArrayTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new ChunkedArrayTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new ChunkedArrayTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedArrayTabulatedFunction(x -> x, 0, 1, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedArrayTabulatedFunction(new double[]{1, 2}, new double[]{1, 2}, 2));
+    }
+
+    @Test
+    @DisplayName("forEachPoint и cursor проходят через все чанки")
+    void primitiveTraversal() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> x * x, 0, 10, 57);
+        double[] x = new double[57];
+        double[] y = new double[57];
+        for (int i = 0; i < 57; i++) {
+            x[i] = array.getX(i);
+            y[i] = array.getY(i);
+        }
+        ChunkedArrayTabulatedFunction chunked = new ChunkedArrayTabulatedFunction(x, y, 4);
+        chunked.removeRange(10, 13);
+        array.removeRange(10, 13);
+
+        int[] index = {0};
+        chunked.forEachPoint((px, py) -> {
+            assertEquals(array.getX(index[0]), px);
+            assertEquals(array.getY(index[0]), py);
+            index[0]++;
+        });
+        assertEquals(array.getCount(), index[0]);
+
+        PointCursor cursor = chunked.cursor();
+        for (int i = 0; i < array.getCount(); i++) {
+            assertTrue(cursor.next());
+            assertEquals(array.getX(i), cursor.x());
+        }
+        assertFalse(cursor.next());
+        assertFalse(cursor.next());
+
+        chunked.removeRange(0, chunked.getCount());
+        assertFalse(chunked.cursor().next(), "Пустая таблица");
+    }
+}
@@ -243,4 +243,20 @@ class CompositeFunctionTest {
         assertEquals(40.0, composition.apply(1.25), 1e-8, "f(g(1.25)) = 40 интерполяций, GOOD");
         assertEquals(41.0, composition.apply(1.5), 1e-8, "f(g(1.5)) = 41 интерполяций, GOOD");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyAll композиции совпадает с поточечным apply")
+    void testApplyAllMatchesApply() {
+        MathFunction composition = new SqrFunction().andThen(new ArrayTabulatedFunction(x -> 3 * x - 1, 0, 4, 9)).andThen(new IdentityFunction());
+        double[] xs = {-1, 0, 0.3, 1.25, 2, 3.9, 5};
+        double[] out = new double[xs.length];
+        composition.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(composition.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+        }
+
+        double[] chunk = new double[3];
+        composition.applyAll(xs, 2, chunk, 0, 3);
+        assertArrayEquals(new double[]{out[2], out[3], out[4]}, chunk, "Вычисление куском");
+    }
+}
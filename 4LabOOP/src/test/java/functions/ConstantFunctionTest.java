@@ -88,4 +88,14 @@ class ConstantFunctionTest {
         ConstantFunction function = new ConstantFunction(1.0);
         assertTrue(function instanceof MathFunction, "ConstantFunction должен реализовывать MathFunction, GOOD");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyAll заполняет кусок массива константой")
+    void testApplyAll() {
+        ConstantFunction function = new ConstantFunction(4.5);
+        double[] out = {0, 0, 0, 0};
+        function.applyAll(new double[]{1, 2, 3}, 1, out, 2, 2);
+        assertArrayEquals(new double[]{0, 0, 4.5, 4.5}, out);
+        assertThrows(IndexOutOfBoundsException.class, () -> function.applyAll(new double[3], 0, out, 3, 2));
+    }
+}
@@ -0,0 +1,186 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для CubicSplineTabulatedFunction")
+class CubicSplineTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static double maxError(MathFunction expected, TabulatedFunction actual) {
+        double max = 0;
+        double from = actual.leftBound();
+        double to = actual.rightBound();
+        for (int i = 0; i <= 10_000; i++) {
+            double x = from + (to - from) * i / 10_000;
+            max = Math.max(max, Math.abs(expected.apply(x) - actual.apply(x)));
+        }
+        return max;
+    }
+
+    @Test
+    @DisplayName("Сплайн проходит через все узлы")
+    void passesThroughNodes() {
+        double[] x = {0, 0.5, 1.7, 2, 3.5, 4};
+        double[] y = {1, -2, 0.5, 3, 3, -1};
+        for (CubicSplineTabulatedFunction.Kind kind : CubicSplineTabulatedFunction.Kind.values()) {
+            CubicSplineTabulatedFunction spline = new CubicSplineTabulatedFunction(x, y, kind);
+            for (int i = 0; i < x.length; i++) {
+                assertEquals(y[i], spline.apply(x[i]), DELTA, kind + " в узле " + i);
+                if (i < x.length - 1) {
+                    //Непрерывность на границе отрезков
+                    assertEquals(spline.apply(x[i + 1] - 1e-9), spline.apply(x[i + 1] + 1e-9), 1e-6);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Кубические сплайны точнее линейной интерполяции на тех же точках")
+    void moreAccurateThanLinear() {
+        //На концах [0, 3pi] вторая производная синуса равна нулю, как и у естественного сплайна
+        MathFunction sine = Math::sin;
+        ArrayTabulatedFunction linear = new ArrayTabulatedFunction(sine, 0, 3 * Math.PI, 41);
+        double linearError = maxError(sine, linear);
+
+        for (CubicSplineTabulatedFunction.Kind kind : CubicSplineTabulatedFunction.Kind.values()) {
+            CubicSplineTabulatedFunction spline = new CubicSplineTabulatedFunction(sine, 0, 3 * Math.PI, 41, kind);
+            double splineError = maxError(sine, spline);
+            //PCHIP зануляет производную в экстремумах, поэтому на синусе выигрыш небольшой
+            double gain = kind == CubicSplineTabulatedFunction.Kind.PCHIP ? 1 : 10;
+            assertTrue(splineError < linearError / gain, kind + ": " + splineError + " против " + linearError);
+        }
+
+        MathFunction exp = Math::exp;
+        double linearExpError = maxError(exp, new ArrayTabulatedFunction(exp, 0, 3, 41));
+        double pchipExpError = maxError(exp, new CubicSplineTabulatedFunction(exp, 0, 3, 41,
+                CubicSplineTabulatedFunction.Kind.PCHIP));
+        assertTrue(pchipExpError < linearExpError / 10, pchipExpError + " против " + linearExpError);
+
+        //Оценка производных по трём точкам точна для параболы, поэтому CLAMPED воспроизводит x^2 точно
+        CubicSplineTabulatedFunction clamped = new CubicSplineTabulatedFunction(
+                new SqrFunction(), -3, 3, 7, CubicSplineTabulatedFunction.Kind.CLAMPED);
+        assertEquals(0.0, maxError(new SqrFunction(), clamped), 1e-12);
+        assertEquals(-4.0, clamped.getSlope(1), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Естественный и закреплённый сплайны удовлетворяют краевым условиям")
+    void boundaryConditions() {
+        double[] x = {0, 1, 2.5, 3, 5};
+        double[] y = {2, 0, 1, 4, 1};
+
+        CubicSplineTabulatedFunction natural = new CubicSplineTabulatedFunction(x, y, CubicSplineTabulatedFunction.Kind.NATURAL);
+        double h = 1e-4;
+        double secondLeft = (natural.apply(2 * h) - 2 * natural.apply(h) + natural.apply(0)) / (h * h);
+        double secondRight = (natural.apply(5) - 2 * natural.apply(5 - h) + natural.apply(5 - 2 * h)) / (h * h);
+        assertEquals(0.0, secondLeft, 1e-2);
+        assertEquals(0.0, secondRight, 1e-2);
+
+        CubicSplineTabulatedFunction clamped = new CubicSplineTabulatedFunction(x, y, 1.5, -2);
+        assertEquals(CubicSplineTabulatedFunction.Kind.CLAMPED, clamped.getKind());
+        assertEquals(1.5, clamped.getSlope(0), DELTA);
+        assertEquals(-2.0, clamped.getSlope(4), DELTA);
+        assertEquals(1.5, (clamped.apply(1e-7) - clamped.apply(0)) / 1e-7, 1e-5);
+
+        //Экстраполяция линейная с производной крайнего узла
+        assertEquals(2 - 1.5, clamped.apply(-1), DELTA);
+        assertEquals(1 - 2 * 2, clamped.apply(7), DELTA);
+    }
+
+    @Test
+    @DisplayName("PCHIP сохраняет монотонность и не даёт выбросов")
+    void pchipIsMonotone() {
+        double[] x = {0, 1, 2, 3, 4, 5, 6};
+        double[] y = {0, 0, 0, 1, 1, 1, 5};
+        CubicSplineTabulatedFunction pchip = new CubicSplineTabulatedFunction(x, y, CubicSplineTabulatedFunction.Kind.PCHIP);
+        CubicSplineTabulatedFunction natural = new CubicSplineTabulatedFunction(x, y, CubicSplineTabulatedFunction.Kind.NATURAL);
+
+        double previous = pchip.apply(0);
+        boolean naturalOvershoots = false;
+        for (int i = 1; i <= 600; i++) {
+            double value = pchip.apply(i / 100.0);
+            assertTrue(value >= previous - 1e-12, "PCHIP должен быть неубывающим при x = " + i / 100.0);
+            previous = value;
+            double naturalValue = natural.apply(i / 100.0);
+            naturalOvershoots |= naturalValue < -1e-9 || (i < 500 && naturalValue > 1 + 1e-9);
+        }
+        assertTrue(naturalOvershoots, "Естественный сплайн на такой ступеньке выходит за пределы данных");
+        assertEquals(0.0, pchip.getSlope(1), DELTA);
+        assertEquals(0.5, pchip.apply(2.5), DELTA);
+    }
+
+    @Test
+    @DisplayName("setY пересчитывает производные, две точки дают прямую")
+    void setYAndTwoPoints() {
+        for (CubicSplineTabulatedFunction.Kind kind : CubicSplineTabulatedFunction.Kind.values()) {
+            CubicSplineTabulatedFunction line = new CubicSplineTabulatedFunction(new double[]{1, 3}, new double[]{2, 6}, kind);
+            assertEquals(4.0, line.apply(2), DELTA);
+            assertEquals(0.0, line.apply(0), DELTA);
+        }
+
+        CubicSplineTabulatedFunction spline = new CubicSplineTabulatedFunction(new SqrFunction(), 0, 4, 5,
+                CubicSplineTabulatedFunction.Kind.NATURAL);
+        double before = spline.apply(2.5);
+        spline.setY(2, 10);
+        assertEquals(10.0, spline.apply(2), DELTA);
+        assertNotEquals(before, spline.apply(2.5), DELTA);
+        CubicSplineTabulatedFunction expected = new CubicSplineTabulatedFunction(
+                new double[]{0, 1, 2, 3, 4}, new double[]{0, 1, 10, 9, 16}, CubicSplineTabulatedFunction.Kind.NATURAL);
+        assertEquals(expected.apply(2.5), spline.apply(2.5), DELTA);
+    }
+
+    @Test
+    @DisplayName("Доступ к точкам, поиск, итератор и проверки аргументов")
+    void accessors() {
+        double[] x = {1, 2, 4};
+        double[] y = {5, 6, 8};
+        CubicSplineTabulatedFunction f = new CubicSplineTabulatedFunction(x, y, CubicSplineTabulatedFunction.Kind.PCHIP);
+        x[0] = 100;
+
+        assertEquals(3, f.getCount());
+        assertEquals(1.0, f.leftBound(), DELTA);
+        assertEquals(4.0, f.rightBound(), DELTA);
+        assertEquals(2, f.indexOfX(4.0 + 5e-11));
+        assertEquals(-1, f.indexOfX(3.0));
+        assertEquals(1, f.indexOfY(6.0));
+        assertEquals(1, f.floorIndexOfX(3.0));
+        assertEquals(7.0, f.interpolate(3.0, 1), DELTA);
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(3.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(0.5));
+        assertThrows(IllegalArgumentException.class, () -> f.getX(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.getY(-1));
+        assertThrows(IllegalArgumentException.class, () -> f.setY(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.getSlope(3));
+        assertEquals(3, f.columns().count());
+
+        Iterator<Point> iterator = f.iterator();
+        assertEquals(1.0, iterator.next().x, DELTA);
+        assertEquals(2.0, iterator.next().x, DELTA);
+        assertEquals(8.0, iterator.next().y, DELTA);
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertThrows(IllegalArgumentException.class, () -> new CubicSplineTabulatedFunction(
+                new double[]{1}, new double[]{1}, CubicSplineTabulatedFunction.Kind.NATURAL));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new CubicSplineTabulatedFunction(
+                new double[]{1, 2}, new double[]{1}, CubicSplineTabulatedFunction.Kind.NATURAL));
+        assertThrows(ArrayIsNotSortedException.class, () -> new CubicSplineTabulatedFunction(
+                new double[]{2, 1}, new double[]{1, 2}, CubicSplineTabulatedFunction.Kind.NATURAL));
+        assertThrows(IllegalArgumentException.class, () -> new CubicSplineTabulatedFunction(
+                new double[]{1, 2}, new double[]{1, 2}, null));
+        assertThrows(IllegalArgumentException.class, () -> new CubicSplineTabulatedFunction(
+                new double[]{1, 2}, new double[]{1, 2}, Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CubicSplineTabulatedFunction(
+                Math::sin, 1, 1, 5, CubicSplineTabulatedFunction.Kind.NATURAL));
+    }
+}
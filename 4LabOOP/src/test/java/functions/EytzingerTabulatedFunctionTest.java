@@ -0,0 +1,121 @@
+package functions;
+
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для EytzingerTabulatedFunction")
+class EytzingerTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Test
+    @DisplayName("Поиск совпадает с ArrayTabulatedFunction для таблиц разного размера")
+    void matchesArrayTabulatedFunction() {
+        MathFunction source = x -> Math.cos(x) * x;
+        Random random = new Random(3);
+        //Размеры вокруг степеней двойки: дерево полное, почти полное и дополненное +∞
+        for (int size : new int[]{2, 3, 4, 7, 8, 9, 15, 16, 17, 100, 255, 256, 1000}) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, -2, 2, size);
+            EytzingerTabulatedFunction eytzinger = new EytzingerTabulatedFunction(array);
+
+            assertEquals(size, eytzinger.getCount());
+            for (int i = 0; i < size; i++) {
+                double x = array.getX(i);
+                assertEquals(array.getY(i), eytzinger.getY(i));
+                assertEquals(i, eytzinger.indexOfX(x), "indexOfX узла " + i + " при n = " + size);
+                assertEquals(i, eytzinger.indexOfX(x - 5e-11));
+                assertEquals(i, eytzinger.indexOfX(x + 5e-11));
+                assertEquals(array.floorIndexOfX(x), eytzinger.floorIndexOfX(x), "n = " + size);
+                assertEquals(array.apply(x), eytzinger.apply(x));
+            }
+            for (int i = 0; i < 500; i++) {
+                double x = random.nextDouble() * 6 - 3;
+                assertEquals(array.apply(x), eytzinger.apply(x), DELTA, "apply при x = " + x + ", n = " + size);
+                assertEquals(array.indexOfX(x), eytzinger.indexOfX(x));
+                if (x >= -2 && x <= 2) {
+                    assertEquals(array.floorIndexOfX(x), eytzinger.floorIndexOfX(x));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("applyAll группами по несколько запросов, с хвостом и на месте")
+    void applyAllMatchesApply() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> x * x, 0, 10, 1001);
+        EytzingerTabulatedFunction eytzinger = new EytzingerTabulatedFunction(array);
+
+        Random random = new Random(5);
+        double[] xs = new double[1003];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = random.nextDouble() * 14 - 2;
+        }
+        xs[0] = array.getX(10) + 5e-11;
+        xs[1] = 10.0;
+        double[] out = new double[xs.length];
+        eytzinger.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(array.apply(xs[i]), out[i], DELTA, "applyAll при x = " + xs[i]);
+        }
+
+        double[] inPlace = xs.clone();
+        eytzinger.applyAll(inPlace, 3, inPlace, 3, inPlace.length - 3);
+        for (int i = 3; i < inPlace.length; i++) {
+            assertEquals(out[i], inPlace[i], DELTA, "На месте, i = " + i);
+        }
+        assertEquals(xs[2], inPlace[2]);
+        assertThrows(IndexOutOfBoundsException.class, () -> eytzinger.applyAll(xs, 1, out, 0, xs.length));
+    }
+
+    @Test
+    @DisplayName("Снимок не меняется вместе с исходной функцией и не даёт менять себя")
+    void snapshotIsReadOnly() {
+        LinkedListTabulatedFunction source = new LinkedListTabulatedFunction(
+                new double[]{1, 2, 4}, new double[]{5, 6, 8});
+        EytzingerTabulatedFunction f = new EytzingerTabulatedFunction(source);
+        source.setY(1, 100);
+
+        assertEquals(6.0, f.getY(1), DELTA);
+        assertEquals(7.0, f.apply(3.0), DELTA);
+        assertEquals(4.0, f.apply(0.0), DELTA);
+        assertEquals(9.0, f.apply(5.0), DELTA);
+        assertEquals(2, f.indexOfY(8.0));
+        assertEquals(7.0, f.interpolate(3.0, 1), DELTA);
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(3.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(0.5));
+        assertThrows(IllegalArgumentException.class, () -> f.getX(3));
+        assertThrows(UnsupportedOperationException.class, () -> f.setY(0, 1));
+
+        Iterator<Point> iterator = f.iterator();
+        assertEquals(1.0, iterator.next().x, DELTA);
+        assertEquals(2.0, iterator.next().x, DELTA);
+        assertEquals(4.0, iterator.next().x, DELTA);
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new EytzingerTabulatedFunction(new double[]{1}, new double[]{1}));
+    }
+
+    @Test
+    @DisplayName("Таблица больше 2^30 - 1 точек отклоняется до выделения памяти")
+    void rejectsTooLargeTable() {
+        //Таблица лишь сообщает огромный размер: проверка должна сработать раньше копирования точек
+        ArrayTabulatedFunction huge = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4}) {
+            @Override
+            public int getCount() {
+                return 1 << 30;
+            }
+        };
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new EytzingerTabulatedFunction(huge));
+        assertTrue(e.getMessage().contains(String.valueOf((1 << 30) - 1)), e.getMessage());
+    }
+}
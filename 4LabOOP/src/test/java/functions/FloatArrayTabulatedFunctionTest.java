@@ -0,0 +1,157 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для FloatArrayTabulatedFunction")
+class FloatArrayTabulatedFunctionTest {
+
+    //Относительная погрешность округления до float
+    private static final double FLOAT_ULP = Math.scalb(1.0, -24);
+
+    @Test
+    @DisplayName("Хранимые значения — ближайшие float, на границе интерфейса они расширяются точно")
+    void storesNearestFloats() {
+        double[] x = {0.1, 0.2, 0.3};
+        double[] y = {1.0 / 3, Math.PI, -Math.E};
+        FloatArrayTabulatedFunction f = new FloatArrayTabulatedFunction(x, y);
+
+        assertEquals(3, f.getCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals((double) (float) x[i], f.getX(i), "x расширен из float");
+            assertEquals((double) (float) y[i], f.getY(i), "y расширен из float");
+        }
+        assertArrayEquals(new float[]{0.1f, 0.2f, 0.3f}, f.toFloatXArray());
+
+        f.setY(1, 2.0 / 3);
+        assertEquals((double) (float) (2.0 / 3), f.getY(1), "setY тоже округляет");
+    }
+
+    @Test
+    @DisplayName("apply совпадает с double-таблицей в пределах документированной погрешности")
+    void errorBoundAgainstDoubleTable() {
+        MathFunction source = x -> Math.sin(x) * 100;
+        ArrayTabulatedFunction exact = new ArrayTabulatedFunction(source, -10, 10, 501);
+        FloatArrayTabulatedFunction compact = new FloatArrayTabulatedFunction(source, -10, 10, 501);
+
+        Random random = new Random(9);
+        for (int i = 0; i < 2000; i++) {
+            double query = random.nextDouble() * 20 - 10;
+            int floor = exact.floorIndexOfX(query);
+            double x1 = exact.getX(floor);
+            double x2 = exact.getX(floor + 1);
+            double y1 = exact.getY(floor);
+            double y2 = exact.getY(floor + 1);
+            double slope = Math.abs((y2 - y1) / (x2 - x1));
+            double bound = FLOAT_ULP * Math.max(Math.abs(y1), Math.abs(y2))
+                    + slope * FLOAT_ULP * Math.max(Math.abs(x1), Math.abs(x2));
+            //Небольшой запас на округление самой интерполяции в double
+            assertEquals(exact.apply(query), compact.apply(query), 2 * bound + 1e-12, "x = " + query);
+        }
+    }
+
+    @Test
+    @DisplayName("Поиск, интерполяция, экстраполяция и applyAll")
+    void searchAndInterpolation() {
+        FloatArrayTabulatedFunction f = new FloatArrayTabulatedFunction(
+                new double[]{1, 2, 4, 8}, new double[]{10, 20, 40, 80});
+
+        assertEquals(2, f.indexOfX(4.0));
+        assertEquals(-1, f.indexOfX(5.0));
+        assertEquals(2, f.floorIndexOfX(5.0));
+        assertEquals(3, f.indexOfY(80.0));
+        assertEquals(50.0, f.apply(5.0), 1e-10);
+        assertEquals(0.0, f.apply(0.0), 1e-10, "Экстраполяция слева");
+        assertEquals(100.0, f.apply(10.0), 1e-10, "Экстраполяция справа");
+        assertEquals(30.0, f.interpolate(3.0, 1), 1e-10);
+        assertThrows(InterpolationException.class, () -> f.interpolate(5.0, 0));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(0.5));
+
+        double[] xs = {0, 1.5, 8, 9, 3};
+        double[] out = new double[xs.length];
+        f.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(f.apply(xs[i]), out[i], "applyAll совпадает с apply");
+        }
+
+        Iterator<Point> iterator = f.iterator();
+        assertEquals(1.0, iterator.next().x);
+        iterator.next();
+        iterator.next();
+        assertEquals(80.0, iterator.next().y);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Проверки аргументов, в том числе слияние узлов после округления")
+    void validation() {
+        assertThrows(IllegalArgumentException.class, () -> new FloatArrayTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new FloatArrayTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new FloatArrayTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new FloatArrayTabulatedFunction(new double[]{1.0, 1.0 + 1e-12}, new double[]{1, 2}),
+                "Различные в double x совпадают во float");
+    }
+
+    @Test
+    @DisplayName("Узлы с x, не представимыми точно, находятся по исходным double-значениям")
+    void nonDyadicNodesAreFound() {
+        double[] x = {0.1, 0.2, 0.3, 0.7, 1.1};
+        double[] y = {1.0, 2.0, 3.0, 7.0, 11.0};
+        FloatArrayTabulatedFunction f = new FloatArrayTabulatedFunction(x, y);
+
+        double[] out = new double[x.length];
+        f.applyAll(x, out);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(i, f.indexOfX(x[i]), "indexOfX в узле " + x[i]);
+            assertEquals(f.getY(i), f.apply(x[i]), "apply в узле " + x[i] + " возвращает хранимый y");
+            assertEquals(f.getY(i), out[i], "applyAll в узле " + x[i]);
+            assertEquals(i, f.indexOfY(y[i]), "indexOfY в узле " + x[i]);
+        }
+        assertEquals(2.0, f.apply(0.2), 1e-6);
+        //Крайние узлы чуть правее 0.1 и 1.1 в double, но запрос в них не считается экстраполяцией
+        assertEquals(0, f.floorIndexOfX(0.1));
+        assertEquals(3, f.floorIndexOfX(1.1), "Последний узел относится к последнему интервалу");
+        assertEquals(-1, f.indexOfX(0.15));
+        assertEquals(1.5, f.apply(0.15), 1e-6);
+
+        //floorIndexOfX и interpolate сравнивают один и тот же ключ (float) x: double чуть ниже узла,
+        //округляющийся в узел, не выпадает из найденного интервала
+        for (int i = 0; i < x.length; i++) {
+            double below = Math.nextDown((double) (float) x[i]);
+            assertEquals(f.getY(i), f.interpolate(below, f.floorIndexOfX(below)), "чуть ниже узла " + x[i]);
+            assertEquals(f.getY(i), f.interpolate(x[i], f.floorIndexOfX(x[i])), "в узле " + x[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("После сериализации таблица сохраняет количество точек")
+    void serializationRestoresCount() throws Exception {
+        FloatArrayTabulatedFunction f = new FloatArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{2, 4, 6});
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(f);
+        }
+        FloatArrayTabulatedFunction copy;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (FloatArrayTabulatedFunction) in.readObject();
+        }
+
+        assertEquals(3, copy.getCount());
+        assertEquals(3.0, copy.rightBound());
+        assertEquals(5.0, copy.apply(2.5), 1e-10);
+    }
+}
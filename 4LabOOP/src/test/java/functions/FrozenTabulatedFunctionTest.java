@@ -0,0 +1,165 @@
+package functions;
+
+import concurrent.SynchronizedTabulatedFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для freeze() и FrozenTabulatedFunction")
+class FrozenTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static void assertPoints(TabulatedFunction f, double[] x, double[] y) {
+        assertEquals(x.length, f.getCount());
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i], f.getX(i), DELTA);
+            assertEquals(y[i], f.getY(i), DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("Снимок ArrayTabulatedFunction не меняется при любых изменениях исходной таблицы")
+    void arraySnapshotSurvivesMutations() {
+        double[] x = {1, 2, 3, 4, 5};
+        double[] y = {10, 20, 30, 40, 50};
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x, y);
+
+        TabulatedFunction first = source.freeze();
+        source.setY(0, -1);
+        TabulatedFunction second = source.freeze();
+        source.insert(2.5, 25);
+        TabulatedFunction third = source.freeze();
+        source.remove(0);
+        source.removeRange(0, 1);
+        source.removeIf((px, py) -> px > 4);
+        source.insertAll(new double[]{0}, new double[]{0});
+
+        assertPoints(first, x, y);
+        assertPoints(second, x, new double[]{-1, 20, 30, 40, 50});
+        assertPoints(third, new double[]{1, 2, 2.5, 3, 4, 5}, new double[]{-1, 20, 25, 30, 40, 50});
+        assertPoints(source, new double[]{0, 2.5, 3, 4}, new double[]{0, 25, 30, 40});
+
+        assertEquals(15.0, first.apply(1.5), DELTA);
+        assertEquals(22.5, third.apply(2.25), DELTA);
+        assertEquals(1, first.indexOfX(2.0));
+        assertThrows(UnsupportedOperationException.class, () -> first.setY(0, 1));
+        assertSame(first, first.freeze());
+    }
+
+    @Test
+    @DisplayName("freeze() у ArrayTabulatedFunction не копирует массивы сразу")
+    void arrayFreezeDoesNotCopyUpfront() {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x -> x, 0, 1, 1_000_000);
+        source.freeze();
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        TabulatedFunction snapshot = source.freeze();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < 10_000, "freeze() выделил " + allocated + " байт");
+
+        source.setY(0, 5);
+        assertEquals(0.0, snapshot.getY(0), DELTA, "Запись после freeze() копирует массивы");
+    }
+
+    @Test
+    @DisplayName("insert после freeze() копирует только нужные массивы и только один раз")
+    void arrayInsertAfterFreezeCopiesOnce() {
+        int n = 1_000_000;
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x -> x, 0, 1, n);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        //Замена y у существующего x копирует только yVal
+        TabulatedFunction first = source.freeze();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        source.insert(source.getX(10), -1);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < 8L * n + 100_000, "Замена y выделила " + allocated + " байт");
+        assertEquals(source.getX(10), first.getY(10), DELTA);
+
+        //Новая точка в заполненные общие массивы: каждый сразу копируется в массив с запасом
+        TabulatedFunction second = source.freeze();
+        before = threads.getThreadAllocatedBytes(threadId);
+        source.insert(0.5 / (n - 1), 7);
+        allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < 2 * 8L * (n + n / 2) + 100_000, "Вставка выделила " + allocated + " байт");
+        assertEquals(n, second.getCount());
+        assertEquals(n + 1, source.getCount());
+        assertEquals(7.0, source.getY(1), DELTA);
+        assertEquals(-1.0, source.getY(11), DELTA);
+        assertEquals(source.getX(2), second.getX(1), DELTA);
+    }
+
+    @Test
+    @DisplayName("Снимок читается из другого потока, пока исходная таблица меняется")
+    void snapshotReadFromAnotherThread() throws InterruptedException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x -> 2 * x, 0, 100, 101);
+        TabulatedFunction snapshot = source.freeze();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                for (int round = 0; round < 200; round++) {
+                    for (int i = 0; i < 101; i++) {
+                        assertEquals(2.0 * i, snapshot.getY(i), DELTA);
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 101; i++) {
+            source.setY(i, -1);
+            source.insert(i + 0.5, -1);
+        }
+        reader.join();
+        assertNull(failure.get());
+    }
+
+    @Test
+    @DisplayName("Снимки других таблиц и обёрток")
+    void otherTables() {
+        double[] x = {1, 2, 4};
+        double[] y = {5, 6, 8};
+
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(x, y);
+        TabulatedFunction listSnapshot = list.freeze();
+        list.setY(0, 100);
+        list.insert(3, 7);
+        assertPoints(listSnapshot, x, y);
+
+        TabulatedFunction strict = new StrictTabulatedFunction(new ArrayTabulatedFunction(x, y)).freeze();
+        assertEquals(6.0, strict.apply(2), DELTA);
+        assertThrows(UnsupportedOperationException.class, () -> strict.apply(3));
+        assertThrows(UnsupportedOperationException.class, () -> strict.setY(0, 1));
+
+        ArrayTabulatedFunction inner = new ArrayTabulatedFunction(x, y);
+        TabulatedFunction unmodifiable = new UnmodifiableTabulatedFunction(inner).freeze();
+        TabulatedFunction synchronizedSnapshot = new SynchronizedTabulatedFunction(inner).freeze();
+        inner.setY(2, 0);
+        assertPoints(unmodifiable, x, y);
+        assertPoints(synchronizedSnapshot, x, y);
+
+        EytzingerTabulatedFunction eytzinger = new EytzingerTabulatedFunction(x, y);
+        assertSame(eytzinger, eytzinger.freeze());
+
+        Iterator<Point> iterator = listSnapshot.iterator();
+        assertEquals(1.0, iterator.next().x, DELTA);
+        assertEquals(2.0, iterator.next().x, DELTA);
+        assertEquals(4.0, iterator.next().x, DELTA);
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(7.0, listSnapshot.apply(3), DELTA);
+        assertEquals(9.0, listSnapshot.apply(5), DELTA);
+    }
+}
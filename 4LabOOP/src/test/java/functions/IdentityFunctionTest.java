@@ -98,4 +98,13 @@ class IdentityFunctionTest{
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("applyAll копирует аргументы")
+    void testApplyAll() {
+        IdentityFunction function = new IdentityFunction();
+        double[] xs = {1.5, -2, 7};
+        double[] out = new double[3];
+        function.applyAll(xs, out);
+        assertArrayEquals(xs, out);
+    }
+}
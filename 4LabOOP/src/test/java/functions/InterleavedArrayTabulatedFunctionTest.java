@@ -0,0 +1,125 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для InterleavedArrayTabulatedFunction")
+class InterleavedArrayTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Test
+    @DisplayName("Результаты совпадают с ArrayTabulatedFunction побитово")
+    void matchesArrayTabulatedFunction() {
+        MathFunction source = x -> Math.exp(-x * x) + x;
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, 3, -3, 301);
+        InterleavedArrayTabulatedFunction interleaved = new InterleavedArrayTabulatedFunction(source, 3, -3, 301);
+
+        assertEquals(array.getCount(), interleaved.getCount());
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(array.getX(i), interleaved.getX(i));
+            assertEquals(array.getY(i), interleaved.getY(i));
+        }
+
+        Random random = new Random(13);
+        double[] queries = new double[3000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = random.nextDouble() * 8 - 4;
+            assertEquals(array.apply(queries[i]), interleaved.apply(queries[i]), "apply при x = " + queries[i]);
+            if (queries[i] >= -3 && queries[i] <= 3) {
+                assertEquals(array.floorIndexOfX(queries[i]), interleaved.floorIndexOfX(queries[i]));
+            }
+        }
+        queries[0] = array.getX(17) + 5e-11;
+        double[] out = new double[queries.length];
+        interleaved.applyAll(queries, out);
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(array.apply(queries[i]), out[i], "applyAll при x = " + queries[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Поиск, setY, интерполяция по индексу и итератор")
+    void accessors() {
+        InterleavedArrayTabulatedFunction f = new InterleavedArrayTabulatedFunction(
+                new double[]{1, 2, 4}, new double[]{5, 6, 8});
+
+        assertEquals(1, f.indexOfX(2.0));
+        assertEquals(-1, f.indexOfX(3.0));
+        assertEquals(2, f.indexOfY(8.0));
+        assertEquals(1.0, f.leftBound(), DELTA);
+        assertEquals(4.0, f.rightBound(), DELTA);
+
+        f.setY(1, 10);
+        assertEquals(10.0, f.getY(1), DELTA);
+        assertEquals(9.0, f.interpolate(3.0, 1), DELTA);
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(3.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> f.getX(3));
+
+        Iterator<Point> iterator = f.iterator();
+        assertEquals(5.0, iterator.next().y, DELTA);
+        assertEquals(2.0, iterator.next().x, DELTA);
+        assertEquals(4.0, iterator.next().x, DELTA);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Проверки аргументов конструктора")
+    void validation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InterleavedArrayTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new InterleavedArrayTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new InterleavedArrayTabulatedFunction(new double[]{1, 1}, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InterleavedArrayTabulatedFunction(x -> x, 0, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Двухуровневый поиск на границах блоков и после сериализации")
+    void blockBoundariesAndSerialization() throws Exception {
+        int count = 50;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+            y[i] = 2 * i;
+        }
+        InterleavedArrayTabulatedFunction f = new InterleavedArrayTabulatedFunction(x, y);
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(f);
+        }
+        InterleavedArrayTabulatedFunction copy;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (InterleavedArrayTabulatedFunction) in.readObject();
+        }
+
+        for (InterleavedArrayTabulatedFunction g : new InterleavedArrayTabulatedFunction[]{f, copy}) {
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, g.indexOfX(i - 5e-11), "Чуть левее узла " + i);
+                assertEquals(i, g.indexOfX(i + 5e-11), "Чуть правее узла " + i);
+                assertEquals(i, g.floorIndexOfX(i), "floorIndexOfX узла " + i);
+                if (i > 0) {
+                    assertEquals(i - 1, g.floorIndexOfX(i - 1e-9), "floorIndexOfX перед узлом " + i);
+                    assertEquals(-1, g.indexOfX(i - 0.5));
+                }
+            }
+            assertEquals(65.0, g.apply(32.5), DELTA);
+            assertEquals(96.0, g.apply(48), DELTA);
+        }
+    }
+}
@@ -1369,6 +1369,319 @@ class LinkedListTabulatedFunctionTest {
        assertThrows(IllegalStateException.class, ()->singlePoint.indexOfX(0));
     }
 
+    private static void assertSameTable(LinkedListTabulatedFunction expected, LinkedListTabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount(), "Количество точек совпадает");
+        LinkedListTabulatedFunction.Node node = actual.getHead();
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), "x[" + i + "] совпадает");
+            assertEquals(expected.getY(i), actual.getY(i), "y[" + i + "] совпадает");
+            assertEquals(expected.getX(i), node.x, "getHead() обходит те же узлы");
+            node = node.next;
+        }
+        assertSame(actual.getHead(), node, "Список остаётся кольцевым");
+    }
+
+    @Test
+    @DisplayName("Skip list индекс: поиск совпадает с линейным обходом после серии вставок и удалений")
+    void skipIndexMatchesLinearList() {
+        java.util.Random random = new java.util.Random(7);
+        double[] x = new double[200];
+        double[] y = new double[200];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i * 2.0;
+            y[i] = Math.sin(i);
+        }
+        LinkedListTabulatedFunction plain = new LinkedListTabulatedFunction(x, y);
+        LinkedListTabulatedFunction indexed = new LinkedListTabulatedFunction(x, y);
+        indexed.setIndexed(true);
+        assertTrue(indexed.isIndexed());
+
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) == 0 && plain.getCount() > 2) {
+                int index = random.nextInt(plain.getCount());
+                plain.remove(index);
+                indexed.remove(index);
+            } else {
+                double newX = random.nextInt(1000) / 2.0 - 50;
+                double newY = random.nextDouble();
+                plain.insert(newX, newY);
+                indexed.insert(newX, newY);
+            }
+        }
+        assertSameTable(plain, indexed);
+
+        double left = plain.leftBound();
+        double right = plain.rightBound();
+        for (int i = 0; i < 500; i++) {
+            double query = left + (right - left) * random.nextDouble();
+            assertEquals(plain.floorIndexOfX(query), indexed.floorIndexOfX(query), "floorIndexOfX совпадает");
+            assertEquals(indexed.getX(indexed.floorIndexOfX(query)), indexed.floorNodeOfX(query).x, "floorNodeOfX согласован с floorIndexOfX");
+            assertEquals(plain.indexOfX(query), indexed.indexOfX(query), "indexOfX совпадает");
+            assertEquals(plain.apply(query), indexed.apply(query), 1e-12, "apply совпадает");
+        }
+        for (int i = 0; i < plain.getCount(); i++) {
+            assertEquals(i, indexed.indexOfX(plain.getX(i)), "Каждый узел находится по своему x");
+            assertEquals(i, indexed.floorIndexOfX(plain.getX(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Skip list индекс: вставка в начало и конец, удаление до пустого списка")
+    void skipIndexHandlesBoundaries() {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(new double[]{1, 2}, new double[]{10, 20});
+        f.setIndexed(true);
+
+        f.insert(0, 0);
+        f.insert(3, 30);
+        f.insert(2, 22);
+        assertEquals(4, f.getCount());
+        assertEquals(0.0, f.getHead().x, delta, "Вставка в начало меняет голову");
+        assertEquals(3.0, f.getHead().prev.x, delta, "Вставка в конец");
+        assertEquals(22.0, f.getY(2), delta, "Существующий x заменяет y");
+
+        while (f.getCount() > 0) {
+            f.remove(f.getCount() - 1);
+        }
+        assertNull(f.getHead());
+
+        f.insert(5, 50);
+        f.insert(4, 40);
+        assertEquals(2, f.getCount());
+        assertEquals(4.0, f.getX(0), delta);
+        assertEquals(45.0, f.apply(4.5), delta);
 
+        f.setIndexed(false);
+        assertFalse(f.isIndexed());
+        assertEquals(1, f.indexOfX(5.0));
+    }
 
+    @Test
+    @DisplayName("Skip list индекс восстанавливается после сериализации")
+    void skipIndexSurvivesSerialization() throws Exception {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(x -> x * x, 0, 10, 11);
+        f.setIndexed(true);
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(f);
+        }
+        LinkedListTabulatedFunction copy;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LinkedListTabulatedFunction) in.readObject();
+        }
+
+        assertTrue(copy.isIndexed());
+        copy.insert(2.5, 6.25);
+        assertEquals(3, copy.indexOfX(2.5));
+        assertEquals(6.25, copy.apply(2.5), delta);
+        assertEquals(7.625, copy.apply(2.75), delta, "Интерполяция между (2.5; 6.25) и (3; 9)");
+    }
+
+    @Test
+    @DisplayName("Кэш последнего узла: последовательный обход и обход в обратном порядке")
+    void fingerSequentialAccess() {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(x -> 3 * x, 0, 99, 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, f.getX(i), delta, "Прямой обход getX");
+            assertEquals(3 * i, f.getY(i), delta, "Прямой обход getY");
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, f.getX(i), delta, "Обратный обход getX");
+        }
+        for (double x = 0; x <= 99; x += 0.25) {
+            assertEquals(3 * x, f.apply(x), delta, "apply по возрастающим x");
+        }
+        assertEquals(50, f.indexOfX(50.0));
+        assertEquals(49, f.floorIndexOfX(49.5));
+        assertEquals(-1, f.indexOfX(49.5));
+    }
+
+    @Test
+    @DisplayName("Кэш последнего узла остаётся корректным при вставках и удалениях")
+    void fingerSurvivesInsertAndRemove() {
+        java.util.Random random = new java.util.Random(7);
+        for (boolean indexed : new boolean[]{false, true}) {
+            LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+            list.setIndexed(indexed);
+
+            for (int step = 0; step < 3000; step++) {
+                int action = random.nextInt(4);
+                if (action == 0 && array.getCount() > 2) {
+                    int index = random.nextInt(array.getCount());
+                    list.remove(index);
+                    array.remove(index);
+                } else if (action == 1) {
+                    double newX = random.nextInt(400) / 4.0 - 50;
+                    list.insert(newX, newX * 2);
+                    array.insert(newX, newX * 2);
+                } else if (action == 2) {
+                    int index = random.nextInt(array.getCount());
+                    assertEquals(array.getX(index), list.getX(index), "getX совпадает, индекс " + index);
+                } else {
+                    double query = array.leftBound() + (array.rightBound() - array.leftBound()) * random.nextDouble();
+                    assertEquals(array.floorIndexOfX(query), list.floorIndexOfX(query), "floorIndexOfX совпадает");
+                    assertEquals(array.apply(query), list.apply(query), 1e-12, "apply совпадает");
+                }
+            }
+            assertEquals(array.getCount(), list.getCount());
+            for (int i = 0; i < array.getCount(); i++) {
+                assertEquals(array.getX(i), list.getX(i), "Итоговые x совпадают");
+                assertEquals(array.getY(i), list.getY(i), "Итоговые y совпадают");
+                assertEquals(i, list.indexOfX(array.getX(i)), "Каждый узел находится по своему x");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("removeRange и removeIf совпадают с массивом, с индексом и без")
+    void bulkRemovalMatchesArray() {
+        for (boolean indexed : new boolean[]{false, true}) {
+            LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(x -> Math.sin(x), 0, 99, 100);
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> Math.sin(x), 0, 99, 100);
+            list.setIndexed(indexed);
+
+            list.getX(50);
+            list.removeRange(40, 60);
+            array.removeRange(40, 60);
+            assertEquals(array.getX(45), list.getX(45), "Индексы сдвинулись после removeRange");
+
+            list.removeRange(0, 5);
+            array.removeRange(0, 5);
+            assertEquals(5.0, list.getHead().x, delta, "Удаление с начала меняет голову");
+
+            assertTrue(list.removeIf((x, y) -> y < 0));
+            array.removeIf((x, y) -> y < 0);
+            assertFalse(list.removeIf((x, y) -> y < 0));
+
+            assertEquals(array.getCount(), list.getCount());
+            for (int i = 0; i < array.getCount(); i++) {
+                assertEquals(array.getX(i), list.getX(i), "x совпадает, индекс " + i);
+                assertEquals(i, list.indexOfX(array.getX(i)), "Поиск по x после удаления");
+            }
+            assertEquals(array.apply(30.5), list.apply(30.5), 1e-12);
+
+            //Условие бросает исключение посреди прохода: ни один узел не отвязан
+            int before = list.getCount();
+            assertThrows(IllegalStateException.class, () -> list.removeIf((x, y) -> {
+                if (x > 80) {
+                    throw new IllegalStateException();
+                }
+                return true;
+            }));
+            assertEquals(before, list.getCount());
+            assertEquals(array.getX(before - 1), list.getX(before - 1), delta);
+
+            list.insert(-1, 0);
+            assertEquals(-1.0, list.getX(0), delta, "Вставка после массового удаления");
+
+            list.removeIf((x, y) -> true);
+            assertNull(list.getHead(), "Удалены все точки");
+            assertEquals(0, list.getCount());
+            list.insert(1, 1);
+            list.insert(2, 4);
+            assertEquals(2.5, list.apply(1.5), delta);
+        }
+    }
+
+    @Test
+    @DisplayName("removeRange: границы диапазона")
+    void removeRangeBounds() {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(2, 1));
+
+        f.removeRange(1, 1);
+        assertEquals(3, f.getCount());
+        f.removeRange(2, 3);
+        assertEquals(2.0, f.rightBound(), delta, "Удаление хвоста");
+        f.removeRange(0, 2);
+        assertNull(f.getHead());
+    }
+
+    @Test
+    @DisplayName("applyAll совпадает с apply, с индексом и без")
+    void applyAllMatchesApply() {
+        java.util.Random random = new java.util.Random(5);
+        for (boolean indexed : new boolean[]{false, true}) {
+            LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(x -> Math.cos(x), -5, 5, 200);
+            f.setIndexed(indexed);
+            double[] xs = new double[1000];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = random.nextDouble() * 12 - 6;
+            }
+            xs[0] = -5;
+            xs[1] = 5;
+            double[] out = new double[xs.length];
+            f.applyAll(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("applyAll по отсортированным запросам (совместный проход) совпадает с apply")
+    void applyAllSortedMatchesApply() {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(x -> x * x * x, -3, 3, 25);
+        double[] xs = new double[2001];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -4 + i * 0.004;
+        }
+        xs[1000] = xs[999];
+        java.util.Arrays.sort(xs);
+
+        double[] out = new double[xs.length];
+        f.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+        }
+
+        double[] chunk = new double[100];
+        f.applyAll(xs, 900, chunk, 0, 100);
+        assertEquals(out[950], chunk[50], "Кусок вычисляется с начала списка");
+        assertEquals(1.0, f.getX(16), delta, "Палец после прохода остаётся согласованным");
+    }
+
+    @Test
+    @DisplayName("applyAll по редкому отсортированному пакету на большом списке совпадает с apply")
+    void applyAllSparseSortedBatch() {
+        //Маленький пакет у правого края и пакет с большими разрывами между точками
+        double[][] batches = {
+                {999.99, 999.995},
+                {0.005, 3.3, 3.31, 250.0, 250.0 + 5e-11, 777.777, 999.0, 1000.0},
+        };
+        for (boolean indexed : new boolean[]{false, true}) {
+            LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(x -> Math.sin(x), 0, 1000, 100_001);
+            f.setIndexed(indexed);
+            for (double[] xs : batches) {
+                double[] out = new double[xs.length];
+                f.applyAll(xs, out);
+                for (int i = 0; i < xs.length; i++) {
+                    assertEquals(f.apply(xs[i]), out[i], "Совпадение с apply в точке " + xs[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("forEachPoint и cursor идут по узлам списка")
+    void testPrimitiveTraversal() {
+        LinkedListTabulatedFunction f = new LinkedListTabulatedFunction(
+                new double[]{1, 2, 4, 8}, new double[]{10, 20, 40, 80});
+
+        StringBuilder visited = new StringBuilder();
+        f.forEachPoint((x, y) -> visited.append(x).append(':').append(y).append(' '));
+        assertEquals("1.0:10.0 2.0:20.0 4.0:40.0 8.0:80.0 ", visited.toString());
+
+        PointCursor cursor = f.cursor();
+        for (int i = 0; i < f.getCount(); i++) {
+            assertTrue(cursor.next());
+            assertEquals(f.getX(i), cursor.x());
+            assertEquals(f.getY(i), cursor.y());
+        }
+        assertFalse(cursor.next());
+    }
 }
@@ -0,0 +1,110 @@
+package functions;
+
+import io.FunctionsIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для MappedTabulatedFunction")
+class MappedTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeBinary(String name, TabulatedFunction function) throws IOException {
+        Path file = tempDir.resolve(name);
+        try (BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()))) {
+            FunctionsIO.writeTabulatedFunction(outputStream, function);
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("Отображённый файл вычисляется так же, как исходная таблица")
+    void matchesSourceTable() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x -> Math.exp(-x) * 4, -2.0, 3.0, 64);
+        Path file = writeBinary("exp.bin", source);
+
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(file)) {
+            assertEquals(source.getCount(), mapped.getCount());
+            assertEquals(source.leftBound(), mapped.leftBound(), DELTA);
+            assertEquals(source.rightBound(), mapped.rightBound(), DELTA);
+            for (int i = 0; i < source.getCount(); i++) {
+                assertEquals(source.getX(i), mapped.getX(i), "x совпадают");
+                assertEquals(source.getY(i), mapped.getY(i), "y совпадают");
+                assertEquals(i, mapped.indexOfX(source.getX(i)));
+                assertEquals(i, mapped.floorIndexOfX(source.getX(i)));
+            }
+            for (double x = -4.0; x <= 5.0; x += 0.05) {
+                assertEquals(source.apply(x), mapped.apply(x), DELTA, "apply совпадает при x = " + x);
+            }
+            assertEquals(-1, mapped.indexOfX(100.0));
+            assertEquals(0, mapped.indexOfY(source.getY(0)));
+        }
+    }
+
+    @Test
+    @DisplayName("В режиме только для чтения setY запрещён")
+    void readOnlyRejectsSetY() throws IOException {
+        Path file = writeBinary("ro.bin", new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4}));
+
+        try (MappedTabulatedFunction mapped = new MappedTabulatedFunction(file)) {
+            assertFalse(mapped.isWritable());
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setY(0, 1.0));
+        }
+    }
+
+    @Test
+    @DisplayName("В режиме записи setY сохраняется в файле")
+    void writableModeWritesThrough() throws IOException {
+        Path file = writeBinary("rw.bin", new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{3, 4, 5}));
+
+        try (MappedTabulatedFunction mapped = new MappedTabulatedFunction(file, true)) {
+            mapped.setY(1, 40.0);
+            mapped.force();
+            assertThrows(IllegalArgumentException.class, () -> mapped.setY(3, 1.0));
+        }
+
+        try (MappedTabulatedFunction reopened = new MappedTabulatedFunction(file)) {
+            assertEquals(40.0, reopened.getY(1), DELTA, "Изменение видно после повторного открытия");
+        }
+    }
+
+    @Test
+    @DisplayName("Пустой и обрезанный файлы отклоняются")
+    void rejectsBrokenFiles() throws IOException {
+        Path empty = tempDir.resolve("empty.bin");
+        new FileOutputStream(empty.toFile()).close();
+        assertThrows(IOException.class, () -> new MappedTabulatedFunction(empty));
+
+        Path truncated = tempDir.resolve("truncated.bin");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(truncated.toFile()))) {
+            out.writeInt(3);
+            out.writeDouble(1.0);
+            out.writeDouble(2.0);
+        }
+        assertThrows(IOException.class, () -> new MappedTabulatedFunction(truncated));
+    }
+
+    @Test
+    @DisplayName("После close обращения к данным запрещены, повторный close безопасен")
+    void closeUnmaps() throws IOException {
+        Path file = writeBinary("close.bin", new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4}));
+        MappedTabulatedFunction mapped = new MappedTabulatedFunction(file);
+
+        mapped.close();
+        mapped.close();
+
+        assertThrows(IllegalStateException.class, () -> mapped.getY(0));
+    }
+}
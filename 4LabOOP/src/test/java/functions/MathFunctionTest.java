@@ -2,6 +2,7 @@ package functions;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import exception.DifferentLengthOfArraysException;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MathFunctionTest {
@@ -184,4 +185,31 @@ public class MathFunctionTest {
         assertEquals(25.0, composite.apply(1.0), 1e-10, "h(1)=2 → g(2)=5 → f(5)=25 GOOD");
         assertEquals(49.0, composite.apply(2.0), 1e-10, "h(2)=4 → g(4)=7 → f(7)=49 GOOD");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyAll по умолчанию совпадает с apply, поддерживает смещения и проверяет границы")
+    public void testApplyAllDefault() {
+        MathFunction f = new MathFunction() {
+            @Override
+            public double apply(double x) {
+                return 2 * x + 1;
+            }
+        };
+
+        double[] xs = {0, 1, 2, 3, 4};
+        double[] out = new double[5];
+        f.applyAll(xs, out);
+        assertArrayEquals(new double[]{1, 3, 5, 7, 9}, out, 1e-10);
+
+        double[] part = {-1, -1, -1, -1};
+        f.applyAll(xs, 3, part, 1, 2);
+        assertArrayEquals(new double[]{-1, 7, 9, -1}, part, 1e-10, "Пишется только указанный кусок");
+
+        f.applyAll(xs, xs);
+        assertArrayEquals(new double[]{1, 3, 5, 7, 9}, xs, 1e-10, "Вычисление на месте");
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> f.applyAll(new double[2], new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.applyAll(xs, 4, out, 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.applyAll(xs, 0, out, -1, 1));
+    }
+}
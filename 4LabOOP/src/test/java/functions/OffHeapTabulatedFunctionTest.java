@@ -0,0 +1,190 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import functions.factory.OffHeapTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для OffHeapTabulatedFunction")
+class OffHeapTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Test
+    @DisplayName("Поведение совпадает с ArrayTabulatedFunction на тех же данных")
+    void matchesArrayTabulatedFunction() {
+        MathFunction source = x -> Math.sin(x) * 3;
+        try (OffHeapTabulatedFunction offHeap = new OffHeapTabulatedFunction(source, 4.0, -1.0, 50)) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, 4.0, -1.0, 50);
+
+            assertEquals(array.getCount(), offHeap.getCount());
+            assertEquals(array.leftBound(), offHeap.leftBound(), DELTA);
+            assertEquals(array.rightBound(), offHeap.rightBound(), DELTA);
+            for (int i = 0; i < array.getCount(); i++) {
+                assertEquals(array.getX(i), offHeap.getX(i), "x совпадают");
+                assertEquals(array.getY(i), offHeap.getY(i), "y совпадают");
+                assertEquals(i, offHeap.indexOfX(array.getX(i)));
+                assertEquals(i, offHeap.floorIndexOfX(array.getX(i)));
+            }
+            for (double x = -3.0; x <= 6.0; x += 0.07) {
+                assertEquals(array.apply(x), offHeap.apply(x), DELTA, "apply совпадает при x = " + x);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("insert добавляет точки с ростом ёмкости и заменяет y у существующего x")
+    void insertGrowsAndReplaces() {
+        try (OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(new double[]{1, 3}, new double[]{10, 30})) {
+            f.insert(2, 20);
+            f.insert(0, 0);
+            f.insert(4, 40);
+            f.insert(3, 33);
+
+            assertEquals(5, f.getCount());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i, f.getX(i), DELTA, "Точки упорядочены по x");
+            }
+            assertEquals(33.0, f.getY(3), DELTA, "y существующей точки заменён");
+            assertEquals(26.5, f.apply(2.5), DELTA, "Интерполяция между (2; 20) и (3; 33)");
+        }
+    }
+
+    @Test
+    @DisplayName("remove сдвигает хвост и проверяет индекс")
+    void removeShiftsTail() {
+        try (OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(
+                new double[]{1, 2, 3, 4}, new double[]{1, 4, 9, 16})) {
+            f.remove(1);
+            f.remove(2);
+
+            assertEquals(2, f.getCount());
+            assertEquals(1.0, f.getX(0), DELTA);
+            assertEquals(3.0, f.getX(1), DELTA);
+            assertEquals(9.0, f.getY(1), DELTA);
+            assertThrows(IndexOutOfBoundsException.class, () -> f.remove(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> f.remove(-1));
+        }
+    }
+
+    @Test
+    @DisplayName("Конструктор проверяет входные массивы и не зависит от них после создания")
+    void constructorValidation() {
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{1}, new double[]{1}));
+
+        double[] x = {1, 2};
+        double[] y = {5, 6};
+        try (OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(x, y)) {
+            y[0] = 100;
+            assertEquals(5.0, f.getY(0), DELTA, "Данные скопированы в нативную память");
+        }
+    }
+
+    @Test
+    @DisplayName("close освобождает память, повторный close безопасен")
+    void closeReleasesMemory() {
+        OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+        assertFalse(f.isClosed());
+
+        f.close();
+        f.close();
+
+        assertTrue(f.isClosed());
+        assertEquals(0, f.getCount());
+        assertThrows(IndexOutOfBoundsException.class, f::leftBound);
+        assertThrows(IllegalStateException.class, () -> f.insert(1.5, 0));
+    }
+
+    @Test
+    @DisplayName("close после роста ёмкости освобождает текущую память, обёртки фабрики читают таблицу")
+    void closeAfterGrowthAndWrappers() {
+        OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        for (int i = 2; i < 100; i++) {
+            f.insert(i, i);
+        }
+        f.close();
+        assertTrue(f.isClosed());
+        assertThrows(IllegalStateException.class, () -> f.insert(200, 0));
+
+        //Обёртка не закрывается, её память освободит Cleaner после сборки мусора
+        TabulatedFunction wrapped = new OffHeapTabulatedFunctionFactory()
+                .createUnmodifiable(new double[]{1, 2, 3}, new double[]{2, 4, 6});
+        assertEquals(5.0, wrapped.apply(2.5), 1e-12);
+        assertThrows(UnsupportedOperationException.class, () -> wrapped.setY(0, 1));
+    }
+
+    @Test
+    @DisplayName("Итератор и фабрика OffHeapTabulatedFunctionFactory")
+    void iteratorAndFactory() {
+        TabulatedFunctionFactory factory = new OffHeapTabulatedFunctionFactory();
+        TabulatedFunction function = factory.create(new double[]{0, 1, 2}, new double[]{5, 6, 7});
+        assertTrue(function instanceof OffHeapTabulatedFunction);
+
+        try (OffHeapTabulatedFunction f = (OffHeapTabulatedFunction) function) {
+            Iterator<Point> iterator = f.iterator();
+            double expectedX = 0;
+            while (iterator.hasNext()) {
+                Point point = iterator.next();
+                assertEquals(expectedX, point.x, DELTA);
+                assertEquals(expectedX + 5, point.y, DELTA);
+                expectedX++;
+            }
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    @DisplayName("removeRange и removeIf в нативной памяти")
+    void bulkRemoval() {
+        try (OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(x -> 2 * x, 0, 9, 10)) {
+            f.removeRange(1, 4);
+            assertEquals(7, f.getCount());
+            assertEquals(4.0, f.getX(1), DELTA);
+            assertThrows(IndexOutOfBoundsException.class, () -> f.removeRange(5, 8));
+
+            assertTrue(f.removeIf((x, y) -> x > 4 && x < 8));
+            assertEquals(4, f.getCount());
+            assertEquals(8.0, f.getX(2), DELTA);
+            assertEquals(12.0, f.apply(6), DELTA, "Интерполяция через удалённое окно");
+            assertFalse(f.removeIf((x, y) -> y > 100));
+
+            //Условие бросает исключение после отметки первых точек: таблица не меняется
+            assertThrows(IllegalStateException.class, () -> f.removeIf((x, y) -> {
+                if (x > 4) {
+                    throw new IllegalStateException();
+                }
+                return true;
+            }));
+            assertEquals(4, f.getCount());
+            assertEquals(0.0, f.getX(0), DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("Столбцы выгружаются из нативной памяти и переживают close()")
+    void columnsExport() {
+        TabulatedColumns columns;
+        try (OffHeapTabulatedFunction f = new OffHeapTabulatedFunction(
+                new double[]{1, 2, 3}, new double[]{4, 5, 6})) {
+            f.insert(2.5, 7);
+            columns = f.columns();
+            f.setY(0, 100);
+        }
+        assertEquals(4, columns.count());
+        assertEquals(2.5, columns.x(2), 1e-10);
+        assertEquals(7.0, columns.y(2), 1e-10);
+        assertEquals(4.0, columns.y(0), 1e-10, "Выгрузка — копия, а не вид");
+    }
+}
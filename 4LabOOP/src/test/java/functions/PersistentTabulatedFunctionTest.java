@@ -0,0 +1,184 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для PersistentTabulatedFunction")
+class PersistentTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static void assertSameTable(TabulatedFunction expected, TabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), "x[" + i + "]");
+            assertEquals(expected.getY(i), actual.getY(i), "y[" + i + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("Результаты совпадают с ArrayTabulatedFunction")
+    void matchesArrayTabulatedFunction() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> Math.sin(x) + x, -5, 5, 301);
+        PersistentTabulatedFunction persistent = PersistentTabulatedFunction.from(array);
+
+        assertSameTable(array, persistent);
+        Random random = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            double x = random.nextDouble() * 14 - 7;
+            assertEquals(array.apply(x), persistent.apply(x), DELTA, "apply при x = " + x);
+            if (x >= -5 && x <= 5) {
+                assertEquals(array.floorIndexOfX(x), persistent.floorIndexOfX(x));
+            }
+        }
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(i, persistent.indexOfX(array.getX(i) + 5e-11));
+        }
+        assertEquals(array.indexOfY(array.getY(17)), persistent.indexOfY(array.getY(17)));
+        assertEquals(-1, persistent.indexOfX(0.01));
+        assertSameTable(array, persistent.toArrayTabulatedFunction());
+    }
+
+    @Test
+    @DisplayName("Старые версии не меняются при правках")
+    void versionsAreIndependent() {
+        List<PersistentTabulatedFunction> versions = new ArrayList<>();
+        List<ArrayTabulatedFunction> expected = new ArrayList<>();
+        PersistentTabulatedFunction current = new PersistentTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+
+        Random random = new Random(42);
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(4);
+            if (array.getCount() < 3 || operation < 2) {
+                double x = Math.floor(random.nextDouble() * 1000) / 10;
+                double y = random.nextDouble();
+                current = current.withPoint(x, y);
+                array.insert(x, y);
+            } else if (operation == 2) {
+                int index = random.nextInt(array.getCount());
+                current = current.withoutPoint(index);
+                array.remove(index);
+            } else {
+                int index = random.nextInt(array.getCount());
+                double y = random.nextDouble();
+                current = current.withY(index, y);
+                array.setY(index, y);
+            }
+            if (step % 100 == 0) {
+                versions.add(current);
+                expected.add(new ArrayTabulatedFunction(snapshotX(array), snapshotY(array)));
+            }
+        }
+        assertSameTable(array, current);
+        for (int i = 0; i < versions.size(); i++) {
+            assertSameTable(expected.get(i), versions.get(i));
+        }
+
+        int n = current.getCount();
+        assertTrue(current.height() <= 1.45 * (Math.log(n + 2) / Math.log(2)), "Дерево должно быть сбалансировано");
+    }
+
+    private static double[] snapshotX(TabulatedFunction function) {
+        double[] x = new double[function.getCount()];
+        function.columns().copyX(0, x, 0, x.length);
+        return x;
+    }
+
+    private static double[] snapshotY(TabulatedFunction function) {
+        double[] y = new double[function.getCount()];
+        function.columns().copyY(0, y, 0, y.length);
+        return y;
+    }
+
+    @Test
+    @DisplayName("Новая версия разделяет с прежней нетронутые поддеревья")
+    void sharesStructure() {
+        PersistentTabulatedFunction first = PersistentTabulatedFunction.from(
+                new ArrayTabulatedFunction(x -> x, 0, 100, 1001));
+
+        PersistentTabulatedFunction second = first.withY(1000, -1);
+        assertSame(first.root.left, second.root.left);
+        assertNotSame(first.root.right, second.root.right);
+        assertEquals(100.0, first.getY(1000), DELTA);
+        assertEquals(-1.0, second.getY(1000), DELTA);
+
+        PersistentTabulatedFunction third = second.withPoint(-1, 5);
+        assertSame(second.root.right, third.root.right);
+        assertEquals(1002, third.getCount());
+        assertEquals(1001, second.getCount());
+
+        PersistentTabulatedFunction replaced = third.withPoint(-1 + 5e-11, 7);
+        assertEquals(1002, replaced.getCount());
+        assertEquals(-1.0, replaced.getX(0), DELTA);
+        assertEquals(7.0, replaced.getY(0), DELTA);
+    }
+
+    @Test
+    @DisplayName("Обход, столбцы, итератор и пустая версия")
+    void traversal() {
+        PersistentTabulatedFunction f = PersistentTabulatedFunction.empty()
+                .withPoint(4, 8).withPoint(1, 2).withPoint(3, 6).withPoint(2, 4);
+
+        double[] expected = {1, 2, 3, 4};
+        int[] index = {0};
+        f.forEachPoint((x, y) -> {
+            assertEquals(expected[index[0]], x, DELTA);
+            assertEquals(2 * expected[index[0]], y, DELTA);
+            index[0]++;
+        });
+        assertEquals(4, index[0]);
+
+        TabulatedColumns columns = f.columns();
+        assertEquals(4, columns.count());
+        assertEquals(3.0, columns.x(2), DELTA);
+
+        Iterator<Point> iterator = f.iterator();
+        for (double value : expected) {
+            assertEquals(value, iterator.next().x, DELTA);
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertSame(f, f.freeze());
+        assertSame(f, PersistentTabulatedFunction.from(f));
+        assertEquals(0, PersistentTabulatedFunction.empty().getCount());
+        assertFalse(PersistentTabulatedFunction.empty().cursor().next());
+    }
+
+    @Test
+    @DisplayName("Проверки аргументов")
+    void arguments() {
+        PersistentTabulatedFunction f = new PersistentTabulatedFunction(
+                new double[]{1, 2, 4}, new double[]{5, 6, 8});
+
+        assertThrows(UnsupportedOperationException.class, () -> f.setY(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.withY(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.withoutPoint(-1));
+        assertThrows(IllegalArgumentException.class, () -> f.getX(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.getY(-1));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(0.5));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(4.5));
+        assertEquals(7.0, f.interpolate(3.0, 1), DELTA);
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(3.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> f.withoutPoint(0).withoutPoint(0).apply(0));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new PersistentTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new PersistentTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new PersistentTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+    }
+}
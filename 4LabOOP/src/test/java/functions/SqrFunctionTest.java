@@ -141,4 +141,15 @@ class SqrFunctionTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("applyAll совпадает с apply побитово")
+    void testApplyAll() {
+        SqrFunction function = new SqrFunction();
+        double[] xs = {-3, -0.1, 0, 0.7, 1e155, Double.NaN};
+        double[] out = new double[xs.length];
+        function.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], "square " + xs[i]);
+        }
+    }
+}
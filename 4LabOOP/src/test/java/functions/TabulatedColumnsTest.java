@@ -0,0 +1,80 @@
+package functions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для TabulatedColumns")
+class TabulatedColumnsTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Test
+    @DisplayName("Столбцы ArrayTabulatedFunction — вид без копирования только для чтения")
+    void arrayColumnsAreReadOnlyView() {
+        ArrayTabulatedFunction f = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+        TabulatedColumns columns = f.columns();
+
+        assertEquals(3, columns.count());
+        assertEquals(2.0, columns.x(1), DELTA);
+        f.setY(1, 50);
+        assertEquals(50.0, columns.y(1), DELTA, "Вид отражает setY");
+
+        DoubleBuffer y = columns.yColumn();
+        assertEquals(0, y.position());
+        assertEquals(3, y.limit());
+        assertTrue(y.isReadOnly());
+        assertThrows(ReadOnlyBufferException.class, () -> y.put(0, 1));
+        y.position(2);
+        assertEquals(0, columns.yColumn().position(), "Каждый вызов отдаёт свой буфер");
+
+        TabulatedColumns copy = columns.copy();
+        f.setY(0, 40);
+        assertEquals(4.0, copy.y(0), DELTA, "Копия не зависит от таблицы");
+        assertEquals(40.0, columns.y(0), DELTA);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.x(3));
+    }
+
+    @Test
+    @DisplayName("Столбцы видят только первые count элементов массивов")
+    void wrapUsesCount() {
+        double[] x = {1, 2, 3, 0, 0};
+        double[] y = {4, 5, 6, 0, 0};
+        TabulatedColumns columns = TabulatedColumns.wrap(x, y, 3);
+
+        assertEquals(3, columns.xColumn().limit());
+        double[] target = new double[4];
+        columns.copyY(1, target, 2, 2);
+        assertArrayEquals(new double[]{0, 0, 5, 6}, target, DELTA);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.copyX(2, target, 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> TabulatedColumns.wrap(x, new double[2], 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> TabulatedColumns.wrap(x, y, -1));
+    }
+
+    @Test
+    @DisplayName("Выгрузка по умолчанию и в таблицах без массивов совпадает с точками таблицы")
+    void exportedColumnsMatchPoints() {
+        double[] x = {0, 0.5, 1, 2, 4};
+        double[] y = {1, 3, 2, 7, 5};
+        TabulatedFunction[] functions = {
+                new LinkedListTabulatedFunction(x, y),
+                new ChunkedArrayTabulatedFunction(x, y, 4),
+                new InterleavedArrayTabulatedFunction(x, y),
+                new UniformGridTabulatedFunction(0, 0.5, y),
+                new UnmodifiableTabulatedFunction(new ArrayTabulatedFunction(x, y)),
+                new EytzingerTabulatedFunction(x, y)
+        };
+        for (TabulatedFunction function : functions) {
+            TabulatedColumns columns = function.columns();
+            assertEquals(function.getCount(), columns.count());
+            for (int i = 0; i < columns.count(); i++) {
+                assertEquals(function.getX(i), columns.x(i), DELTA, function.getClass().getSimpleName());
+                assertEquals(function.getY(i), columns.y(i), DELTA, function.getClass().getSimpleName());
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для UniformGridTabulatedFunction")
+class UniformGridTabulatedFunctionTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Test
+    @DisplayName("Дискретизация даёт те же точки, что и ArrayTabulatedFunction")
+    void samplingMatchesArrayTabulatedFunction() {
+        MathFunction source = x -> x * x - 3 * x;
+        UniformGridTabulatedFunction uniform = new UniformGridTabulatedFunction(source, 5.0, -2.0, 71);
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, 5.0, -2.0, 71);
+
+        assertEquals(array.getCount(), uniform.getCount(), "Количество точек совпадает");
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(array.getX(i), uniform.getX(i), "x совпадают побитово");
+            assertEquals(array.getY(i), uniform.getY(i), "y совпадают побитово");
+        }
+        for (double x = -4.0; x <= 7.0; x += 0.013) {
+            assertEquals(array.apply(x), uniform.apply(x), DELTA, "apply совпадает при x = " + x);
+        }
+    }
+
+    @Test
+    @DisplayName("indexOfX и floorIndexOfX вычисляются арифметически с допуском 1e-10")
+    void indexArithmetic() {
+        UniformGridTabulatedFunction f = new UniformGridTabulatedFunction(0.0, 0.25, new double[]{0, 1, 2, 3, 4, 5});
+
+        assertEquals(3, f.indexOfX(0.75), "0.75 — узел с индексом 3");
+        assertEquals(3, f.indexOfX(0.75 + 5e-11), "Допуск справа");
+        assertEquals(3, f.indexOfX(0.75 - 5e-11), "Допуск слева");
+        assertEquals(-1, f.indexOfX(0.8), "Внутри отрезка не узел");
+        assertEquals(-1, f.indexOfX(-0.25), "Левее таблицы");
+        assertEquals(-1, f.indexOfX(1.5), "Правее таблицы");
+
+        assertEquals(0, f.floorIndexOfX(0.0), "Левая граница");
+        assertEquals(3, f.floorIndexOfX(0.75), "Узел");
+        assertEquals(3, f.floorIndexOfX(0.8), "Внутри отрезка");
+        assertEquals(2, f.floorIndexOfX(0.75 - 1e-12), "Чуть левее узла — предыдущий отрезок");
+        assertEquals(5, f.floorIndexOfX(1.25), "Правая граница — count - 1");
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(-0.01));
+        assertThrows(IllegalArgumentException.class, () -> f.floorIndexOfX(1.26));
+    }
+
+    @Test
+    @DisplayName("apply интерполирует, экстраполирует и возвращает значения в узлах")
+    void applyInterpolatesAndExtrapolates() {
+        UniformGridTabulatedFunction f = new UniformGridTabulatedFunction(1.0, 1.0, new double[]{2, 4, 8});
+
+        assertEquals(4.0, f.apply(2.0), DELTA, "Узел");
+        assertEquals(6.0, f.apply(2.5), DELTA, "Интерполяция");
+        assertEquals(0.0, f.apply(0.0), DELTA, "Экстраполяция влево");
+        assertEquals(12.0, f.apply(4.0), DELTA, "Экстраполяция вправо");
+        assertThrows(InterpolationException.class, () -> f.interpolate(3.5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.interpolate(1.5, 2));
+    }
+
+    @Test
+    @DisplayName("Конструктор из массивов проверяет длины, порядок и равномерность")
+    void arrayConstructorValidation() {
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new UniformGridTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new UniformGridTabulatedFunction(new double[]{1, 3, 2}, new double[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformGridTabulatedFunction(new double[]{1, 2, 4}, new double[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformGridTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformGridTabulatedFunction(x -> x, 1.0, 1.0, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformGridTabulatedFunction(0.0, 0.0, new double[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("isUniform распознаёт равномерные сетки")
+    void isUniform() {
+        assertTrue(UniformGridTabulatedFunction.isUniform(new double[]{0.0, 0.1, 0.2, 0.30000000000000004}));
+        assertTrue(UniformGridTabulatedFunction.isUniform(new double[]{-1, 1}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{0, 1, 3}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{1}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{2, 2, 2}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(null));
+    }
+
+    @Test
+    @DisplayName("setY, indexOfY и итератор работают с массивом y")
+    void setYAndIterator() {
+        UniformGridTabulatedFunction f = new UniformGridTabulatedFunction(0.0, 2.0, new double[]{1, 2, 3});
+        f.setY(1, 7.0);
+
+        assertEquals(1, f.indexOfY(7.0), "Изменённое значение находится");
+        assertEquals(-1, f.indexOfY(2.0), "Старого значения больше нет");
+        assertThrows(IllegalArgumentException.class, () -> f.setY(3, 1.0));
+
+        Iterator<Point> iterator = f.iterator();
+        Point second = null;
+        for (int i = 0; i < 2; i++) {
+            second = iterator.next();
+        }
+        assertEquals(2.0, second.x, DELTA);
+        assertEquals(7.0, second.y, DELTA);
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("После сериализации таблица сохраняет количество точек")
+    void serializationRestoresCount() throws Exception {
+        UniformGridTabulatedFunction f = new UniformGridTabulatedFunction(x -> 3 * x, 0, 4, 5);
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(f);
+        }
+        UniformGridTabulatedFunction copy;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (UniformGridTabulatedFunction) in.readObject();
+        }
+
+        assertEquals(5, copy.getCount());
+        assertEquals(4.0, copy.rightBound(), DELTA);
+        assertEquals(7.5, copy.apply(2.5), DELTA);
+    }
+
+    @Test
+    @DisplayName("forEachPoint и cursor по умолчанию идут через getX и getY")
+    void defaultPrimitiveTraversal() {
+        UniformGridTabulatedFunction f = new UniformGridTabulatedFunction(x -> 3 * x, 0, 4, 5);
+
+        double[] sum = new double[1];
+        f.forEachPoint((x, y) -> sum[0] += y - 3 * x);
+        assertEquals(0.0, sum[0], DELTA);
+
+        PointCursor cursor = f.cursor();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cursor.next());
+            assertEquals(i, cursor.x(), DELTA);
+            assertEquals(3.0 * i, cursor.y(), DELTA);
+        }
+        assertFalse(cursor.next());
+    }
+}
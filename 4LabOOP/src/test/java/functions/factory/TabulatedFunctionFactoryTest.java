@@ -5,6 +5,10 @@ import functions.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TabulatedFunctionFactoryTest {
@@ -708,4 +712,120 @@ class TabulatedFunctionFactoryTest {
         assertTrue(strictFunc instanceof StrictTabulatedFunction);
         assertFalse(baseFunc instanceof StrictTabulatedFunction);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UniformGridTabulatedFunctionFactory распознаёт равномерную сетку")
+    public void testUniformGridFactoryDetectsUniformGrid() {
+        TabulatedFunctionFactory uniformFactory = new UniformGridTabulatedFunctionFactory();
+
+        TabulatedFunction uniform = uniformFactory.create(new double[]{0.0, 0.5, 1.0, 1.5}, new double[]{1, 2, 3, 4});
+        TabulatedFunction irregular = uniformFactory.create(new double[]{0.0, 0.5, 2.0}, new double[]{1, 2, 3});
+
+        assertTrue(uniform instanceof UniformGridTabulatedFunction);
+        assertEquals(1.5, uniform.getX(3), 1e-10);
+        assertEquals(2.5, uniform.apply(0.75), 1e-10);
+        assertTrue(irregular instanceof ArrayTabulatedFunction);
+    }
+
+    @Test
+    @DisplayName("UniformGridTabulatedFunctionFactory использует заданную запасную фабрику")
+    public void testUniformGridFactoryFallback() {
+        TabulatedFunctionFactory uniformFactory =
+                new UniformGridTabulatedFunctionFactory(new LinkedListTabulatedFunctionFactory());
+
+        assertTrue(uniformFactory.create(new double[]{0, 1, 5}, new double[]{1, 2, 3})
+                instanceof LinkedListTabulatedFunction);
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridTabulatedFunctionFactory(null));
+    }
+
+    @Test
+    @DisplayName("FloatArrayTabulatedFunctionFactory создаёт FloatArrayTabulatedFunction")
+    public void testFloatArrayFactory() {
+        TabulatedFunctionFactory floatFactory = new FloatArrayTabulatedFunctionFactory();
+        TabulatedFunction function = floatFactory.create(new double[]{0, 1, 2}, new double[]{0.1, 0.2, 0.3});
+
+        assertTrue(function instanceof FloatArrayTabulatedFunction);
+        assertEquals((double) 0.2f, function.getY(1));
+        assertEquals(0.15f, function.apply(0.5), 1e-7);
+    }
+
+    @Test
+    @DisplayName("CubicSplineTabulatedFunctionFactory создаёт сплайн заданного типа")
+    public void testCubicSplineFactory() {
+        TabulatedFunctionFactory splineFactory = new CubicSplineTabulatedFunctionFactory();
+        TabulatedFunction natural = splineFactory.create(new double[]{0, 1, 2}, new double[]{0, 1, 0});
+
+        assertTrue(natural instanceof CubicSplineTabulatedFunction);
+        assertEquals(CubicSplineTabulatedFunction.Kind.NATURAL, ((CubicSplineTabulatedFunction) natural).getKind());
+        assertEquals(1.0, natural.apply(1), 1e-10);
+
+        TabulatedFunction pchip = new CubicSplineTabulatedFunctionFactory(CubicSplineTabulatedFunction.Kind.PCHIP)
+                .create(new double[]{0, 1, 2}, new double[]{0, 1, 0});
+        assertEquals(CubicSplineTabulatedFunction.Kind.PCHIP, ((CubicSplineTabulatedFunction) pchip).getKind());
+        assertTrue(pchip.apply(0.9) <= 1.0);
+        assertThrows(IllegalArgumentException.class, () -> new CubicSplineTabulatedFunctionFactory(null));
+    }
+
+    @Test
+    @DisplayName("tabulate даёт те же точки, что и конструктор с дискретизацией")
+    public void testTabulateMatchesSamplingConstructor() {
+        MathFunction source = x -> Math.sin(x) * x;
+        TabulatedFunction expected = new ArrayTabulatedFunction(source, 3, -2, 101);
+        TabulatedFunction array = new ArrayTabulatedFunctionFactory().tabulate(source, 3, -2, 101);
+        TabulatedFunction linkedList = new LinkedListTabulatedFunctionFactory().tabulate(source, -2, 3, 101);
+
+        assertTrue(array instanceof ArrayTabulatedFunction);
+        assertTrue(linkedList instanceof LinkedListTabulatedFunction);
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), array.getX(i));
+            assertEquals(expected.getY(i), array.getY(i));
+            assertEquals(expected.getX(i), linkedList.getX(i));
+            assertEquals(expected.getY(i), linkedList.getY(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Параллельный tabulate побитово совпадает с последовательным")
+    public void testParallelTabulateIsDeterministic() throws Exception {
+        MathFunction source = new RungeKuttaFunction(x -> Math.cos(x), 0, 0, 1e-3);
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        TabulatedFunction serial = factory.tabulate(source, 0, 5, 1001);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            TabulatedFunction forkJoin = factory.tabulate(source, 0, 5, 1001, pool);
+            TabulatedFunction virtual = factory.tabulate(source, 0, 5, 1001, virtualThreads);
+            TabulatedFunction tiny = factory.tabulate(source, 0, 5, 2, pool);
+            for (int i = 0; i < serial.getCount(); i++) {
+                assertEquals(serial.getX(i), forkJoin.getX(i));
+                assertEquals(serial.getY(i), forkJoin.getY(i));
+                assertEquals(serial.getY(i), virtual.getY(i));
+            }
+            assertEquals(serial.getY(1000), tiny.getY(1));
+        } finally {
+            pool.shutdown();
+            virtualThreads.close();
+        }
+    }
+
+    @Test
+    @DisplayName("tabulate проверяет аргументы и пробрасывает исключения функции")
+    public void testTabulateArguments() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        MathFunction failing = x -> {
+            if (x > 0.5) {
+                throw new ArithmeticException("Производная близка к нулю");
+            }
+            return x;
+        };
+
+        assertThrows(ArithmeticException.class,
+                () -> factory.tabulate(failing, 0, 1, 100, ForkJoinPool.commonPool()));
+        assertThrows(ArithmeticException.class, () -> factory.tabulate(failing, 0, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> factory.tabulate(x -> x, 0, 1, 100, null));
+        assertThrows(IllegalArgumentException.class, () -> factory.tabulate(null, 0, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> factory.tabulate(x -> x, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> factory.tabulate(x -> x, 1, 1, 10));
+    }
+}
@@ -2,9 +2,11 @@ package io;
 
 import functions.TabulatedFunction;
 import functions.ArrayTabulatedFunction;
+import functions.ChebyshevFunction;
 import functions.LinkedListTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
+import operations.ChebyshevCompiler;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -499,4 +501,64 @@ public class FunctionsIOTest {
 
     }
 
+    @Test
+    @DisplayName("Запись и чтение ряда Чебышёва сохраняют коэффициенты и погрешность")
+    void testWriteAndReadChebyshevFunction() throws IOException {
+        Path testFile = tempDir.resolve("chebyshev.bin");
+        ChebyshevFunction original = new ChebyshevCompiler(1e-10).compile(x -> Math.tanh(10 * x), -1, 1);
+
+        try (BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(testFile.toFile()))) {
+            FunctionsIO.writeChebyshevFunction(outputStream, original);
+        }
+
+        ChebyshevFunction read;
+        try (BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(testFile.toFile()))) {
+            read = FunctionsIO.readChebyshevFunction(inputStream);
+        }
+
+        assertEquals(original.pieceCount(), read.pieceCount());
+        assertEquals(original.coefficientCount(), read.coefficientCount());
+        assertEquals(original.maxError(), read.maxError());
+        for (int i = 0; i <= 200; i++) {
+            double x = -1 + i / 100.0;
+            assertEquals(original.apply(x), read.apply(x));
+        }
+    }
+
+    @Test
+    @DisplayName("Чтение ряда Чебышёва с некорректными данными должно бросать IOException")
+    void testReadInvalidChebyshevFunction() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(1);
+            out.writeDouble(0);
+            out.writeDouble(2);
+            out.writeDouble(1);
+            out.writeInt(1);
+            out.writeDouble(5);
+        }
+        assertThrows(IOException.class, () -> FunctionsIO.readChebyshevFunction(
+                new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertThrows(IOException.class, () -> FunctionsIO.readChebyshevFunction(
+                new BufferedInputStream(new ByteArrayInputStream(new byte[]{0, 0, 0, 0}))));
+        assertThrows(EOFException.class, () -> FunctionsIO.readChebyshevFunction(
+                new BufferedInputStream(new ByteArrayInputStream(new byte[]{0, 0, 0, 1}))));
+
+        //Испорченные счётчики: pieces + 1 переполняет int, огромная длина куска не должна выделять память
+        IOException tooManyPieces = assertThrows(IOException.class, () -> FunctionsIO.readChebyshevFunction(
+                new BufferedInputStream(new ByteArrayInputStream(new byte[]{0x7f, -1, -1, -1}))));
+        assertTrue(tooManyPieces.getMessage().contains(String.valueOf(Integer.MAX_VALUE)));
+
+        ByteArrayOutputStream huge = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(huge)) {
+            out.writeInt(1);
+            out.writeDouble(0);
+            out.writeDouble(0);
+            out.writeDouble(1);
+            out.writeInt(Integer.MAX_VALUE - 8);
+        }
+        IOException tooManyCoefficients = assertThrows(IOException.class, () -> FunctionsIO.readChebyshevFunction(
+                new BufferedInputStream(new ByteArrayInputStream(huge.toByteArray()))));
+        assertTrue(tooManyCoefficients.getMessage().contains("коэффициентов"));
+    }
 }
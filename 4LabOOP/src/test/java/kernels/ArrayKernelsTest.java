@@ -0,0 +1,149 @@
+package kernels;
+
+import exception.DifferentLengthOfArraysException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Тесты для ArrayKernels")
+class ArrayKernelsTest {
+
+    private static final ScalarDoubleKernels SCALAR = new ScalarDoubleKernels();
+
+    private static boolean vectorModulePresent() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    private static double[] randomArray(Random random, int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Векторная реализация выбирается, если модуль подключен")
+    void selectsVectorImplementation() {
+        assertEquals(vectorModulePresent(), ArrayKernels.isVectorized());
+    }
+
+    @Test
+    @DisplayName("Поэлементная арифметика и интерполяция совпадают со скалярными побитово")
+    void vectorMatchesScalarBitwise() {
+        assumeTrue(vectorModulePresent(), "Модуль jdk.incubator.vector не подключен");
+        DoubleKernels vector = new VectorDoubleKernels();
+        Random random = new Random(3);
+
+        //Длины не кратны числу дорожек, чтобы проверить хвосты
+        for (int length : new int[]{0, 1, 7, 64, 1001}) {
+            double[] a = randomArray(random, length);
+            double[] b = randomArray(random, length);
+            double[] expected = new double[length];
+            double[] actual = new double[length];
+
+            SCALAR.add(a, b, expected, length);
+            vector.add(a, b, actual, length);
+            assertArrayEquals(expected, actual, "add, длина " + length);
+
+            SCALAR.subtract(a, b, expected, length);
+            vector.subtract(a, b, actual, length);
+            assertArrayEquals(expected, actual, "subtract, длина " + length);
+
+            SCALAR.multiply(a, b, expected, length);
+            vector.multiply(a, b, actual, length);
+            assertArrayEquals(expected, actual, "multiply, длина " + length);
+
+            SCALAR.divide(a, b, expected, length);
+            vector.divide(a, b, actual, length);
+            assertArrayEquals(expected, actual, "divide, длина " + length);
+
+            double[] xVal = new double[50];
+            double[] yVal = randomArray(random, 50);
+            for (int i = 0; i < 50; i++) {
+                xVal[i] = i * 0.5;
+            }
+            int[] floors = new int[length];
+            double[] xs = new double[length + 3];
+            for (int i = 0; i < length; i++) {
+                floors[i] = random.nextInt(49);
+                xs[i + 3] = xVal[floors[i]] + random.nextDouble() * 0.5;
+            }
+            SCALAR.lerp(xVal, yVal, floors, xs, 3, expected, 0, length);
+            vector.lerp(xVal, yVal, floors, xs, 3, actual, 0, length);
+            assertArrayEquals(expected, actual, "lerp, длина " + length);
+
+            assertEquals(SCALAR.weightedSum(a, b, length), vector.weightedSum(a, b, length), 1e-9, "weightedSum");
+            assertEquals(SCALAR.alternatingSum(a, 0, length, 2, 4), vector.alternatingSum(a, 0, length, 2, 4), 1e-9);
+            if (length > 1) {
+                assertEquals(SCALAR.alternatingSum(a, 1, length - 1, 2, 4), vector.alternatingSum(a, 1, length - 1, 2, 4), 1e-9,
+                        "alternatingSum с нечётного индекса");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Деление на ноль бросает ArithmeticException, точки до нуля записаны")
+    void divideByZero() {
+        double[] a = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        double[] b = {1, 1, 1, 1, 1, 1, 0, 1, 1, 1};
+        double[] out = new double[10];
+        assertThrows(ArithmeticException.class, () -> ArrayKernels.divide(a, b, out));
+        assertEquals(6.0, out[5], "Точки до нулевого делителя посчитаны");
+
+        b[6] = -0.0;
+        assertThrows(ArithmeticException.class, () -> ArrayKernels.divide(a, b, out), "Отрицательный ноль тоже ноль");
+    }
+
+    @Test
+    @DisplayName("Суммы и проверки длин")
+    void sumsAndLengthChecks() {
+        double[] values = {1, 2, 3, 4, 5};
+        assertEquals(1 * 2 + 2 * 4 + 3 * 2 + 4 * 4 + 5 * 2, ArrayKernels.alternatingSum(values, 0, 5, 2, 4), 1e-12);
+        assertEquals(2 * 4 + 3 * 2 + 4 * 4, ArrayKernels.alternatingSum(values, 1, 4, 2, 4), 1e-12);
+        assertEquals(55.0, ArrayKernels.weightedSum(values, values), 1e-12);
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> ArrayKernels.add(new double[2], new double[3], new double[2]));
+        assertThrows(DifferentLengthOfArraysException.class, () -> ArrayKernels.weightedSum(new double[2], new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayKernels.alternatingSum(values, 2, 6, 1, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ArrayKernels.lerp(values, values, new int[1], values, 0, new double[1], 0, 2));
+    }
+
+    @Test
+    @DisplayName("Операции над буферами совпадают с операциями над массивами, в том числе за границей блока")
+    void bufferOperationsMatchArrays() {
+        Random random = new Random(11);
+        int length = 2500;
+        double[] a = randomArray(random, length);
+        double[] b = randomArray(random, length);
+        java.nio.DoubleBuffer bufferA = java.nio.DoubleBuffer.wrap(a).asReadOnlyBuffer();
+        java.nio.DoubleBuffer bufferB = java.nio.DoubleBuffer.wrap(b).asReadOnlyBuffer();
+        bufferA.position(100);
+
+        double[] expected = new double[length];
+        double[] actual = new double[length];
+        ArrayKernels.add(a, b, expected);
+        ArrayKernels.add(bufferA, bufferB, actual);
+        assertArrayEquals(expected, actual);
+        ArrayKernels.subtract(a, b, expected);
+        ArrayKernels.subtract(bufferA, bufferB, actual);
+        assertArrayEquals(expected, actual);
+        ArrayKernels.multiply(a, b, expected);
+        ArrayKernels.multiply(bufferA, bufferB, actual);
+        assertArrayEquals(expected, actual);
+        ArrayKernels.divide(a, b, expected);
+        ArrayKernels.divide(bufferA, bufferB, actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(100, bufferA.position(), "Позиция буфера не меняется");
+
+        b[2000] = 0.0;
+        assertThrows(ArithmeticException.class, () -> ArrayKernels.divide(bufferA, bufferB, actual));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> ArrayKernels.add(bufferA, bufferB, new double[length - 1]));
+    }
+}
@@ -0,0 +1,143 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.ConstantFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.MathFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для AdaptiveTabulator")
+class AdaptiveTabulatorTest {
+
+    private static double maxError(MathFunction expected, TabulatedFunction actual, double from, double to) {
+        double max = 0;
+        for (int i = 0; i <= 100_000; i++) {
+            double x = from + (to - from) * i / 100_000;
+            max = Math.max(max, Math.abs(expected.apply(x) - actual.apply(x)));
+        }
+        return max;
+    }
+
+    @Test
+    @DisplayName("Погрешность не превышает заданную, а точек меньше, чем у равномерной сетки")
+    void meetsToleranceWithFewerPoints() {
+        MathFunction exp = Math::exp;
+        double tolerance = 1e-4;
+        TabulatedFunction adaptive = new AdaptiveTabulator(tolerance).tabulate(exp, 0, 10);
+
+        assertTrue(adaptive instanceof ArrayTabulatedFunction);
+        assertEquals(0.0, adaptive.leftBound());
+        assertEquals(10.0, adaptive.rightBound());
+        //Проверка только в трёх точках: погрешность между ними может чуть превысить порог
+        assertTrue(maxError(exp, adaptive, 0, 10) <= 1.05 * tolerance);
+
+        //Равномерная сетка с тем же числом точек далеко не укладывается в порог
+        ArrayTabulatedFunction uniform = new ArrayTabulatedFunction(exp, 0, 10, adaptive.getCount());
+        assertTrue(maxError(exp, uniform, 0, 10) > 10 * tolerance);
+
+        //А с допуском укладывается только при многократно большем числе точек
+        int uniformCount = (int) Math.ceil(10 / Math.sqrt(8 * tolerance / Math.exp(10))) + 1;
+        assertTrue(adaptive.getCount() * 3 < uniformCount, adaptive.getCount() + " против " + uniformCount);
+    }
+
+    @Test
+    @DisplayName("Точки сгущаются там, где функция изгибается")
+    void refinesWhereCurved() {
+        //Ступенька, сглаженная на ширине 0.01 возле x = 0
+        MathFunction step = x -> Math.tanh(x / 0.01);
+        TabulatedFunction table = new AdaptiveTabulator(1e-5).tabulate(step, -1, 1);
+
+        int near = 0;
+        for (int i = 0; i < table.getCount(); i++) {
+            if (Math.abs(table.getX(i)) < 0.1) {
+                near++;
+            }
+        }
+        assertTrue(near > table.getCount() * 0.8, near + " из " + table.getCount());
+        assertTrue(maxError(step, table, -1, 1) <= 1.05e-5);
+    }
+
+    @Test
+    @DisplayName("Для прямой достаточно начальной сетки")
+    void linearNeedsOnlyInitialGrid() {
+        assertEquals(AdaptiveTabulator.DEFAULT_INITIAL_INTERVALS + 1,
+                new AdaptiveTabulator(1e-9).tabulate(x -> 3 * x - 1, -2, 5).getCount());
+        assertEquals(2, new AdaptiveTabulator(1e-9, 1, new ArrayTabulatedFunctionFactory(), ForkJoinPool.commonPool())
+                .tabulate(new ConstantFunction(4), 0, 1).getCount());
+    }
+
+    @Test
+    @DisplayName("Результат не зависит от числа потоков и использует заданную фабрику")
+    void deterministicAcrossPools() {
+        MathFunction func = x -> Math.sin(x) * Math.exp(-x / 5);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            TabulatedFunction first = new AdaptiveTabulator(1e-6, 8, new ArrayTabulatedFunctionFactory(), single)
+                    .tabulate(func, 0, 30);
+            TabulatedFunction second = new AdaptiveTabulator(1e-6, 8, new LinkedListTabulatedFunctionFactory(), several)
+                    .tabulate(func, 0, 30);
+
+            assertTrue(second instanceof LinkedListTabulatedFunction);
+            assertTrue(maxError(func, first, 0, 30) <= 1.05e-6);
+            assertEquals(first.getCount(), second.getCount());
+            for (int i = 0; i < first.getCount(); i++) {
+                assertEquals(first.getX(i), second.getX(i));
+                assertEquals(first.getY(i), second.getY(i));
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Проверки аргументов и неопределённые значения функции")
+    void arguments() {
+        AdaptiveTabulator tabulator = new AdaptiveTabulator(1e-3);
+        assertEquals(1e-3, tabulator.getMaxError());
+
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTabulator(0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTabulator(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(1e-3, 0, new ArrayTabulatedFunctionFactory(), ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(1e-3, 4, null, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(1e-3, 4, new ArrayTabulatedFunctionFactory(), null));
+        assertThrows(IllegalArgumentException.class, () -> tabulator.tabulate(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> tabulator.tabulate(Math::sin, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> tabulator.tabulate(Math::sin, 2, 1));
+
+        //NaN внутри начального отрезка находится при дроблении и пробрасывается из задачи в пуле
+        assertThrows(IllegalArgumentException.class, () -> tabulator.tabulate(
+                x -> x > 0.3 && x < 0.31 ? Double.NaN : Math.sin(10 * x), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> tabulator.tabulate(Math::log, -1, 1));
+    }
+
+    @Test
+    @DisplayName("Наименьшая ширина отрезка зависит от области: узкая область и область вдали от нуля")
+    void minimumWidthScalesWithDomain() {
+        //Область шириной 1e-7: чтобы уложиться в погрешность, нужны отрезки уже 1e-8.
+        //Погрешность взята крупной, потому что таблица сама сводит x ближе 1e-10 к узлу
+        MathFunction fast = x -> Math.sin((x - 1) * 5e7);
+        TabulatedFunction narrow = new AdaptiveTabulator(1e-2).tabulate(fast, 1, 1 + 1e-7);
+        assertTrue(maxError(fast, narrow, 1, 1 + 1e-7) <= 1.05 * 1e-2);
+
+        //Излом вне сетки при x ~ 1e9: дробление останавливается на нескольких ulp, а не на глубине рекурсии
+        MathFunction kink = x -> Math.abs(x - (1e9 + 0.3));
+        TabulatedFunction far = new AdaptiveTabulator(1e-12).tabulate(kink, 1e9, 1e9 + 1);
+        assertTrue(far.getCount() < 1000, "точек: " + far.getCount());
+        for (int i = 1; i < far.getCount(); i++) {
+            assertTrue(far.getX(i) > far.getX(i - 1));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package operations;
+
+import functions.ChebyshevFunction;
+import functions.CompositeFunction;
+import functions.MathFunction;
+import functions.SqrFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для ChebyshevCompiler и ChebyshevFunction")
+class ChebyshevCompilerTest {
+
+    private static double maxError(MathFunction expected, MathFunction actual, double from, double to) {
+        Random random = new Random(5);
+        double max = 0;
+        for (int i = 0; i < 20_000; i++) {
+            double x = from + (to - from) * random.nextDouble();
+            max = Math.max(max, Math.abs(expected.apply(x) - actual.apply(x)));
+        }
+        return max;
+    }
+
+    @Test
+    @DisplayName("Гладкая функция приближается одним куском с малым числом коэффициентов")
+    void smoothFunctionSinglePiece() {
+        ChebyshevFunction compiled = new ChebyshevCompiler(1e-12).compile(Math::exp, 0, 1);
+
+        assertEquals(1, compiled.pieceCount());
+        assertTrue(compiled.coefficientCount() <= 16, "Коэффициентов: " + compiled.coefficientCount());
+        assertTrue(compiled.maxError() <= 1e-12);
+        assertTrue(maxError(Math::exp, compiled, 0, 1) <= 2e-12);
+        assertEquals(0.0, compiled.leftBound());
+        assertEquals(1.0, compiled.rightBound());
+    }
+
+    @Test
+    @DisplayName("Цепочка CompositeFunction заменяется рядом с заданной погрешностью")
+    void compositeChain() {
+        //sin(exp(x)^2) на [0, 1.5] — быстро осциллирует на правом конце
+        MathFunction chain = new CompositeFunction(Math::sin, new CompositeFunction(new SqrFunction(), Math::exp));
+        ChebyshevFunction compiled = new ChebyshevCompiler(1e-9).compile(chain, 0, 1.5);
+
+        assertTrue(compiled.maxError() <= 1e-9);
+        assertTrue(maxError(chain, compiled, 0, 1.5) <= 2e-9);
+    }
+
+    @Test
+    @DisplayName("Крутой участок делится на куски, многочлен воспроизводится точно")
+    void splitsAndPolynomials() {
+        MathFunction steep = x -> Math.tanh(x / 0.01);
+        ChebyshevFunction compiled = new ChebyshevCompiler(1e-8).compile(steep, -1, 1);
+        assertTrue(compiled.pieceCount() > 1);
+        assertTrue(maxError(steep, compiled, -1, 1) <= 2e-8);
+        for (int i = 1; i < compiled.pieceCount(); i++) {
+            assertTrue(compiled.breakpoint(i) > compiled.breakpoint(i - 1));
+        }
+
+        MathFunction cubic = x -> x * x * x - 2 * x + 1;
+        ChebyshevFunction exact = new ChebyshevCompiler(1e-12).compile(cubic, -3, 2);
+        assertEquals(1, exact.pieceCount());
+        assertEquals(4, exact.coefficientCount());
+        assertEquals(cubic.apply(1.7), exact.apply(1.7), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Схема Кленшоу и продолжение за границы")
+    void clenshaw() {
+        //T_2(t) = 2t^2 - 1 на [-1, 1] и 3 + T_1 на [1, 3]
+        ChebyshevFunction function = new ChebyshevFunction(
+                new double[]{-1, 1, 3}, new double[][]{{0, 0, 1}, {3, 1}}, 0);
+        assertEquals(2 * 0.09 - 1, function.apply(0.3), 1e-15);
+        assertEquals(3.5, function.apply(2.5), 1e-15);
+        assertEquals(2 * 4 - 1, function.apply(-2), 1e-15);
+        assertEquals(6.0, function.apply(5), 1e-15);
+        assertEquals(5, function.coefficientCount());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChebyshevFunction(new double[]{0, 1}, new double[][]{{1}, {2}}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChebyshevFunction(new double[]{1, 1}, new double[][]{{1}}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChebyshevFunction(new double[]{0, 1}, new double[][]{{}}, 0));
+    }
+
+    @Test
+    @DisplayName("Погрешность ниже шума округления не дробит отрезок до предела глубины")
+    void toleranceBelowRoundingNoise() {
+        ChebyshevFunction compiled = new ChebyshevCompiler(1e-15).compile(x -> 1000 * Math.sin(x), 0, 1);
+
+        assertTrue(compiled.pieceCount() <= 8, "кусков: " + compiled.pieceCount());
+        //Достигнутая погрешность — на уровне округления значений порядка 1000, и она сообщается честно
+        assertTrue(compiled.maxError() > 1e-15);
+        assertTrue(compiled.maxError() < 1e-10, "maxError = " + compiled.maxError());
+        for (int i = 0; i <= 1000; i++) {
+            double x = i / 1000.0;
+            assertEquals(1000 * Math.sin(x), compiled.apply(x), 1e-10);
+        }
+    }
+
+    @Test
+    @DisplayName("Проверки аргументов компилятора")
+    void arguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ChebyshevCompiler(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChebyshevCompiler(1e-6, 4));
+        ChebyshevCompiler compiler = new ChebyshevCompiler(1e-6);
+        assertEquals(1e-6, compiler.getTolerance());
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(Math::sin, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(Math::log, -1, 1));
+    }
+}
@@ -0,0 +1,247 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для TabulatedFunctionDownsamplingService")
+class TabulatedFunctionDownsamplingServiceTest {
+
+    //Случайное блуждание: много изломов, ни одна точка не лежит на хорде заранее
+    private static ArrayTabulatedFunction randomWalk(int count, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 1; i < count; i++) {
+            x[i] = x[i - 1] + 0.5 + random.nextDouble();
+            y[i] = y[i - 1] + random.nextGaussian();
+        }
+        return new ArrayTabulatedFunction(x, y);
+    }
+
+    //Прямая реализация LTTB по массивам, с которой сверяется потоковая
+    private static int[] referenceLttb(double[] x, double[] y, int target) {
+        int[] selected = new int[target];
+        int buckets = target - 2;
+        int a = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = 1 + bucket * (x.length - 2) / buckets;
+            int end = 1 + (bucket + 1) * (x.length - 2) / buckets;
+            int nextEnd = Math.min(1 + (bucket + 2) * (x.length - 2) / buckets, x.length);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = end; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            avgX /= nextEnd - end;
+            avgY /= nextEnd - end;
+            int best = start;
+            double bestArea = -1;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[a] - avgX) * (y[i] - y[a]) - (x[a] - x[i]) * (avgY - y[a])) / 2;
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            selected[bucket + 1] = best;
+            a = best;
+        }
+        selected[target - 1] = x.length - 1;
+        return selected;
+    }
+
+    @Test
+    @DisplayName("LTTB совпадает с прямой реализацией по массивам")
+    void lttbMatchesReference() {
+        TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService();
+        ArrayTabulatedFunction source = randomWalk(10_007, 7);
+        double[] x = new double[source.getCount()];
+        double[] y = new double[source.getCount()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = source.getX(i);
+            y[i] = source.getY(i);
+        }
+
+        for (int target : new int[]{3, 4, 100, 997, 5000}) {
+            TabulatedFunction result = service.largestTriangleThreeBuckets(source, target);
+            int[] expected = referenceLttb(x, y, target);
+            assertEquals(target, result.getCount());
+            for (int i = 0; i < target; i++) {
+                assertEquals(x[expected[i]], result.getX(i), "target = " + target + ", i = " + i);
+                assertEquals(y[expected[i]], result.getY(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("LTTB сохраняет концы и одиночный выброс")
+    void lttbKeepsEndsAndSpike() {
+        double[] x = new double[1000];
+        double[] y = new double[1000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 50.0);
+        }
+        y[613] = 100;
+        TabulatedFunction result = new TabulatedFunctionDownsamplingService()
+                .largestTriangleThreeBuckets(new ArrayTabulatedFunction(x, y), 20);
+
+        assertEquals(0.0, result.leftBound());
+        assertEquals(999.0, result.rightBound());
+        assertEquals(100.0, result.apply(613), 1e-10);
+    }
+
+    @Test
+    @DisplayName("LTTB всегда заканчивается последней точкой таблицы при любых размерах")
+    void lttbEndsWithLastPoint() {
+        TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService();
+        for (int count = 3; count < 200; count++) {
+            ArrayTabulatedFunction source = randomWalk(count, count);
+            for (int target = 3; target < Math.min(50, count); target++) {
+                TabulatedFunction result = service.largestTriangleThreeBuckets(source, target);
+                assertEquals(target, result.getCount());
+                assertEquals(source.leftBound(), result.leftBound());
+                assertEquals(source.rightBound(), result.rightBound(), count + " -> " + target);
+            }
+        }
+        //Пример, на котором граница в double попадала на индекс раньше: 63 точки в 9
+        double[] x = new double[63];
+        double[] y = new double[63];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = i % 3;
+        }
+        assertEquals(62.0, service.largestTriangleThreeBuckets(new ArrayTabulatedFunction(x, y), 9).rightBound());
+    }
+
+    @Test
+    @DisplayName("Если точек не больше целевого числа, LTTB возвращает копию через фабрику")
+    void lttbReturnsCopyWhenSmall() {
+        TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService(
+                new LinkedListTabulatedFunctionFactory(), ForkJoinPool.commonPool());
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+
+        TabulatedFunction result = service.largestTriangleThreeBuckets(source, 10);
+        assertTrue(result instanceof LinkedListTabulatedFunction);
+        assertEquals(3, result.getCount());
+        assertEquals(5.0, result.getY(1));
+        assertThrows(IllegalArgumentException.class, () -> service.largestTriangleThreeBuckets(source, 2));
+        assertThrows(IllegalArgumentException.class, () -> service.largestTriangleThreeBuckets(null, 5));
+    }
+
+    @Test
+    @DisplayName("RDP укладывается в погрешность во всех исходных точках")
+    void rdpRespectsMaxError() {
+        ArrayTabulatedFunction source = randomWalk(50_000, 11);
+        double maxError = 2.0;
+        TabulatedFunction result = new TabulatedFunctionDownsamplingService().ramerDouglasPeucker(source, maxError);
+
+        assertTrue(result.getCount() < source.getCount() / 5, "точек: " + result.getCount());
+        assertEquals(source.leftBound(), result.leftBound());
+        assertEquals(source.rightBound(), result.rightBound());
+        for (int i = 0; i < source.getCount(); i++) {
+            assertTrue(Math.abs(source.getY(i) - result.apply(source.getX(i))) <= maxError + 1e-9, "i = " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("RDP оставляет от прямой только концы, а при нулевой погрешности — все изломы")
+    void rdpOnLineAndZeroError() {
+        TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService();
+        double[] x = new double[100];
+        double[] y = new double[100];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = 0.5 * i;
+        }
+        TabulatedFunction line = service.ramerDouglasPeucker(new ArrayTabulatedFunction(x, y), 1e-9);
+        assertEquals(2, line.getCount());
+
+        ArrayTabulatedFunction walk = randomWalk(1000, 3);
+        assertEquals(1000, service.ramerDouglasPeucker(walk, 0).getCount());
+        assertThrows(IllegalArgumentException.class, () -> service.ramerDouglasPeucker(walk, -1));
+        assertThrows(IllegalArgumentException.class, () -> service.ramerDouglasPeucker(walk, Double.NaN));
+    }
+
+    @Test
+    @DisplayName("RDP на зубчатых данных не переполняет стек")
+    void rdpOnJaggedInput() {
+        //Каждое деление отрезает одну точку у края: глубина деления равна длине таблицы
+        int n = 40_000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = (i % 2 == 0 ? 1 : -1) * (double) (n - i);
+        }
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(x, y);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            TabulatedFunction result = new TabulatedFunctionDownsamplingService(
+                    new ArrayTabulatedFunctionFactory(), four).ramerDouglasPeucker(source, 0.5);
+            for (int i = 0; i < n; i += 97) {
+                assertTrue(Math.abs(y[i] - result.apply(x[i])) <= 0.5, "i = " + i);
+            }
+            assertEquals(source.rightBound(), result.rightBound());
+        } finally {
+            four.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Результат RDP не зависит от числа потоков, а тип — от таблицы-источника")
+    void rdpIsDeterministicAcrossPools() {
+        ArrayTabulatedFunction source = randomWalk(300_000, 5);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            TabulatedFunction serial = new TabulatedFunctionDownsamplingService(
+                    new ArrayTabulatedFunctionFactory(), single).ramerDouglasPeucker(source, 3.0);
+            TabulatedFunction parallel = new TabulatedFunctionDownsamplingService(
+                    new LinkedListTabulatedFunctionFactory(), four).ramerDouglasPeucker(source, 3.0);
+
+            assertTrue(parallel instanceof LinkedListTabulatedFunction);
+            assertEquals(serial.getCount(), parallel.getCount());
+            for (int i = 0; i < serial.getCount(); i++) {
+                assertEquals(serial.getX(i), parallel.getX(i));
+                assertEquals(serial.getY(i), parallel.getY(i));
+            }
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Прореживание работает и на связном списке")
+    void worksOnLinkedList() {
+        ArrayTabulatedFunction array = randomWalk(2000, 9);
+        double[] x = new double[array.getCount()];
+        double[] y = new double[array.getCount()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = array.getX(i);
+            y[i] = array.getY(i);
+        }
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(x, y);
+        TabulatedFunctionDownsamplingService service = new TabulatedFunctionDownsamplingService();
+
+        TabulatedFunction fromArray = service.largestTriangleThreeBuckets(array, 150);
+        TabulatedFunction fromList = service.largestTriangleThreeBuckets(list, 150);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(fromArray.getX(i), fromList.getX(i));
+        }
+        assertEquals(service.ramerDouglasPeucker(array, 1.5).getCount(),
+                service.ramerDouglasPeucker(list, 1.5).getCount());
+    }
+}
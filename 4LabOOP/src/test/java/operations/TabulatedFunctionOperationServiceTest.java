@@ -1,5 +1,6 @@
 package operations;
 
+import exception.ArrayIsNotSortedException;
 import exception.InconsistentFunctionsException;
 import functions.*;
 import functions.factory.*;
@@ -8,6 +9,8 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -579,4 +582,140 @@ class TabulatedFunctionOperationServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.setFactory(null));
         assertEquals("Factory cannot be null", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("UNION складывает таблицы с разными x на объединённой сетке")
+    void testUnionAlignment() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{0, 10, 20, 30});
+        TabulatedFunction b = new LinkedListTabulatedFunction(new double[]{0.5, 1.5, 2.5}, new double[]{1, 3, 5});
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, b));
+        assertEquals(TabulatedFunctionOperationService.Alignment.STRICT, service.getAlignment());
+
+        service.setAlignment(TabulatedFunctionOperationService.Alignment.UNION);
+        TabulatedFunction sum = service.add(a, b);
+        double[] expectedX = {0, 0.5, 1, 1.5, 2, 2.5, 3};
+        assertEquals(expectedX.length, sum.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], sum.getX(i));
+            assertEquals(a.apply(expectedX[i]) + b.apply(expectedX[i]), sum.getY(i), 1e-12);
+        }
+        //Снаружи таблицы b значения продолжаются по её крайним отрезкам, как в apply
+        assertEquals(0 + 0.0, sum.getY(0), 1e-12);
+        assertEquals(30 + 6.0, sum.getY(6), 1e-12);
+    }
+
+    @Test
+    @DisplayName("UNION совпадает с поточечным apply на случайных таблицах")
+    void testUnionMatchesApply() {
+        Random random = new Random(17);
+        double[] xa = new double[500];
+        double[] ya = new double[500];
+        double[] xb = new double[300];
+        double[] yb = new double[300];
+        for (int i = 1; i < xa.length; i++) {
+            xa[i] = xa[i - 1] + 0.1 + random.nextDouble();
+            ya[i] = random.nextGaussian();
+        }
+        xb[0] = -5;
+        yb[0] = 1;
+        for (int i = 1; i < xb.length; i++) {
+            xb[i] = xb[i - 1] + 0.5 + 2 * random.nextDouble();
+            yb[i] = 1 + random.nextDouble();
+        }
+        //Общие узлы: совпадают точно и с расхождением меньше допуска
+        xb[100] = xa[40];
+        xb[101] = xa[41] + 1e-12;
+        Arrays.sort(xb);
+        TabulatedFunction a = new ArrayTabulatedFunction(xa, ya);
+        TabulatedFunction b = new LinkedListTabulatedFunction(xb, yb);
+
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new LinkedListTabulatedFunctionFactory());
+        service.setAlignment(TabulatedFunctionOperationService.Alignment.UNION);
+        TabulatedFunction product = service.multiply(a, b);
+        TabulatedFunction quotient = service.divide(a, b);
+
+        assertTrue(product instanceof LinkedListTabulatedFunction);
+        assertEquals(xa.length + xb.length - 2, product.getCount());
+        for (int i = 0; i < product.getCount(); i++) {
+            double x = product.getX(i);
+            if (i > 0) {
+                assertTrue(x > product.getX(i - 1));
+            }
+            assertEquals(a.apply(x) * b.apply(x), product.getY(i), 1e-9);
+            assertEquals(a.apply(x) / b.apply(x), quotient.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("TARGET пересчитывает обе таблицы на заданную сетку")
+    void testTargetAlignment() {
+        TabulatedFunction a = new ArrayTabulatedFunction(x -> x * x, 0, 4, 41);
+        TabulatedFunction b = new LinkedListTabulatedFunction(x -> 2 * x, -1, 5, 7);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.setAlignment(TabulatedFunctionOperationService.Alignment.TARGET));
+        assertThrows(ArrayIsNotSortedException.class, () -> service.setTargetGrid(new double[]{1, 1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> service.setTargetGrid(new double[]{1}));
+
+        double[] grid = {-1, 0.25, 2, 3.95, 6};
+        service.setTargetGrid(grid);
+        grid[0] = 100;
+        assertEquals(TabulatedFunctionOperationService.Alignment.TARGET, service.getAlignment());
+        assertEquals(-1.0, service.getTargetGrid()[0]);
+
+        TabulatedFunction difference = service.subtract(a, b);
+        assertEquals(5, difference.getCount());
+        for (int i = 0; i < difference.getCount(); i++) {
+            double x = difference.getX(i);
+            assertEquals(a.apply(x) - b.apply(x), difference.getY(i), 1e-12);
+        }
+
+        service.setAlignment(TabulatedFunctionOperationService.Alignment.STRICT);
+        assertThrows(InconsistentFunctionsException.class, () -> service.subtract(a, b));
+        assertThrows(IllegalArgumentException.class, () -> service.setAlignment(null));
+    }
+
+    @Test
+    @DisplayName("UNION пересчитывает таблицу её собственным apply: Strict вне узлов бросает исключение")
+    void testUnionRespectsStrictFunction() {
+        TabulatedFunction strict = new StrictTabulatedFunction(
+                new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{0, 10, 20, 30}));
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setAlignment(TabulatedFunctionOperationService.Alignment.UNION);
+
+        //Сетка совпадает с узлами Strict-таблицы: интерполировать не нужно
+        TabulatedFunction sameGrid = service.add(strict,
+                new LinkedListTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{1, 1, 1, 1}));
+        assertEquals(4, sameGrid.getCount());
+        assertEquals(21.0, sameGrid.getY(2), 1e-12);
+
+        //Узел 1.5 второй таблицы потребовал бы интерполяции, которую Strict запрещает
+        TabulatedFunction other = new ArrayTabulatedFunction(new double[]{0, 1.5, 3}, new double[]{1, 1, 1});
+        assertThrows(UnsupportedOperationException.class, () -> service.add(strict, other));
+        assertThrows(UnsupportedOperationException.class, () -> service.add(other, strict));
+    }
+
+    @Test
+    @DisplayName("UNION пересчитывает сплайн сплайном, а не ломаной по его узлам")
+    void testUnionKeepsSplineInterpolation() {
+        CubicSplineTabulatedFunction spline = new CubicSplineTabulatedFunction(
+                Math::sin, 0, 6, 7, CubicSplineTabulatedFunction.Kind.NATURAL);
+        TabulatedFunction line = new ArrayTabulatedFunction(x -> 0.5 * x, -1, 7, 17);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setAlignment(TabulatedFunctionOperationService.Alignment.UNION);
+
+        for (TabulatedFunction sum : new TabulatedFunction[]{service.add(spline, line), service.add(line, spline)}) {
+            assertEquals(17, sum.getCount());
+            for (int i = 0; i < sum.getCount(); i++) {
+                double x = sum.getX(i);
+                assertEquals(spline.apply(x) + line.apply(x), sum.getY(i), 1e-12, "x = " + x);
+            }
+        }
+        //Между узлами сплайна значение отличается от линейной интерполяции по ним
+        double chord = (spline.getY(2) + spline.getY(3)) / 2;
+        assertNotEquals(chord, service.add(spline, line).apply(2.5) - line.apply(2.5), 1e-3);
+    }
 }